@@ -0,0 +1,82 @@
+package br.com.todo.todo.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskArchiveRepository;
+import br.com.todo.todo.repository.TaskRepository;
+
+public final class InMemoryTaskRepository {
+
+    private InMemoryTaskRepository() {
+    }
+
+    public static List<Task> tasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            tasks.add(new Task(new TaskDTO(null, "Task name " + i, "Task description " + i,
+                    (i - 1) * 5 / size + 1, i % 2 == 0), (long) i));
+        }
+        return tasks;
+    }
+
+    public static List<Task> searchableTasks(int size, int vocabulary) {
+        Random random = new Random(size);
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            tasks.add(new Task(new TaskDTO(null, words(random, vocabulary, 3), words(random, vocabulary, 8),
+                    random.nextInt(1, 6), i % 2 == 0), (long) i));
+        }
+        return tasks;
+    }
+
+    public static String word(int rank) {
+        return "w" + Integer.toHexString(rank);
+    }
+
+    private static String words(Random random, int vocabulary, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            double skew = random.nextDouble();
+            words.append(i == 0 ? "" : " ").append(word((int) (vocabulary * skew * skew * skew)));
+        }
+        return words.toString();
+    }
+
+    public static TaskRepository of(List<Task> tasks) {
+        List<TaskDTO> all = tasks.stream().map(TaskDTO::new).collect(Collectors.toList());
+        List<TaskDTO> done = all.stream().filter(TaskDTO::done).collect(Collectors.toList());
+        List<TaskDTO> pending = all.stream().filter(task -> !task.done()).collect(Collectors.toList());
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+                new Class<?>[] { TaskRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByOrderByPriorityAscIdAsc" -> all;
+                    case "findAll" -> tasks;
+                    case "findByDoneTrueOrderByPriorityAscIdAsc" -> done;
+                    case "findByDoneFalseOrderByPriorityAscIdAsc" -> pending;
+                    case "count" -> (long) tasks.size();
+                    case "toString" -> "InMemoryTaskRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public static TaskArchiveRepository emptyArchive() {
+        return (TaskArchiveRepository) Proxy.newProxyInstance(TaskArchiveRepository.class.getClassLoader(),
+                new Class<?>[] { TaskArchiveRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllByOrderByPriorityAscIdAsc", "findAllAfter" -> List.of();
+                    case "findDTOById" -> Optional.empty();
+                    case "toString" -> "EmptyTaskArchiveRepository";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+}
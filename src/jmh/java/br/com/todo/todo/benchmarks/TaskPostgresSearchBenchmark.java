@@ -0,0 +1,93 @@
+package br.com.todo.todo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.todo.todo.TodoApplication;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.services.TaskSearchService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskPostgresSearchBenchmark {
+
+    private static final String WORD = "'w' || to_hex((%d * power(random(), 3))::int)";
+
+    @Param({ "1000000" })
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskSearchService searchService;
+    private String rareTerms;
+    private String commonTerm;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=" + System.getenv("SPRING_DATASOURCE_URL"),
+                        "spring.datasource.username=" + System.getenv("SPRING_DATASOURCE_USERNAME"),
+                        "spring.datasource.password=" + System.getenv("SPRING_DATASOURCE_PASSWORD"),
+                        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "spring.jpa.hibernate.ddl-auto=update",
+                        "spring.sql.init.mode=always",
+                        "spring.sql.init.platform=postgresql",
+                        "spring.jpa.defer-datasource-initialization=true",
+                        "todo.search.mode=postgresql",
+                        "logging.level.root=WARN")
+                .run();
+        searchService = context.getBean(TaskSearchService.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks", Long.class);
+        if (existing < size) {
+            String words = String.join(" || ' ' || ", WORD.formatted(TaskSearchBenchmark.VOCABULARY),
+                    WORD.formatted(TaskSearchBenchmark.VOCABULARY), WORD.formatted(TaskSearchBenchmark.VOCABULARY));
+            jdbcTemplate.update("INSERT INTO tasks (id, name, description, priority, done, version) "
+                    + "SELECT nextval('tasks_seq'), " + words + ", " + words + " || ' ' || " + words
+                    + ", 1 + (random() * 4)::int, random() < 0.5, 0 FROM generate_series(1, ?)", size - existing);
+            jdbcTemplate.execute("ANALYZE tasks");
+        }
+        rareTerms = InMemoryTaskRepository.word(TaskSearchBenchmark.VOCABULARY / 2) + " "
+                + InMemoryTaskRepository.word(TaskSearchBenchmark.VOCABULARY / 3);
+        commonTerm = InMemoryTaskRepository.word(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> searchRareTerms() {
+        return searchService.search(rareTerms, 0, 20);
+    }
+
+    @Benchmark
+    public List<TaskDTO> searchCommonTerm() {
+        return searchService.search(commonTerm, 0, 20);
+    }
+
+}
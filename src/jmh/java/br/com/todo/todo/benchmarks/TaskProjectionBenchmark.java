@@ -0,0 +1,90 @@
+package br.com.todo.todo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.todo.todo.TodoApplication;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class TaskProjectionBenchmark {
+
+    @Param({ "1000", "100000" })
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository repository;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private TransactionTemplate readOnlyTransactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.cache.type=none",
+                        "logging.level.root=WARN")
+                .run();
+        repository = context.getBean(TaskRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTransactionTemplate.setReadOnly(true);
+
+        repository.saveAllInBatches(InMemoryTaskRepository.tasks(size).stream()
+                .map(task -> new Task(new TaskDTO(task)))
+                .collect(Collectors.toList()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> hydrateEntitiesAndMap() {
+        return transactionTemplate.execute(status -> entityManager
+                .createQuery("SELECT t FROM Task t ORDER BY t.priority, t.id", Task.class)
+                .getResultList()
+                .stream()
+                .map(TaskDTO::new)
+                .collect(Collectors.toList()));
+    }
+
+    @Benchmark
+    public List<TaskDTO> projectToDTOs() {
+        return readOnlyTransactionTemplate.execute(status -> repository.findAllByOrderByPriorityAscIdAsc());
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.todo.todo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskRepository;
+import br.com.todo.todo.services.TaskServices;
+import br.com.todo.todo.services.TaskSortedViews;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class TaskReadPathBenchmark {
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private List<Task> tasks;
+    private List<TaskDTO> taskDTOs;
+    private TaskServices taskServices;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tasks = InMemoryTaskRepository.tasks(size);
+        taskDTOs = tasks.stream().map(TaskDTO::new).collect(Collectors.toList());
+
+        TaskRepository repository = InMemoryTaskRepository.of(tasks);
+        taskServices = new TaskServices(repository, InMemoryTaskRepository.emptyArchive(),
+                new TaskSortedViews(repository, false), event -> {
+        });
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<TaskDTO> getAllTasks() {
+        return taskServices.getAllTasks();
+    }
+
+    @Benchmark
+    public List<TaskDTO> getAllPendingTasks() {
+        return taskServices.getAllPendingTasks();
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapTasksToDTOs() {
+        return tasks.stream().map(TaskDTO::new).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(taskDTOs);
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.todo.todo.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.services.InMemoryTaskSearchService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class TaskSearchBenchmark {
+
+    static final int VOCABULARY = 20000;
+
+    @Param({ "1000", "100000", "1000000" })
+    private int size;
+
+    private InMemoryTaskSearchService searchService;
+    private String rareTerms;
+    private String commonTerm;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        searchService = new InMemoryTaskSearchService(
+                InMemoryTaskRepository.of(InMemoryTaskRepository.searchableTasks(size, VOCABULARY)));
+        searchService.load();
+        rareTerms = InMemoryTaskRepository.word(VOCABULARY / 2) + " " + InMemoryTaskRepository.word(VOCABULARY / 3);
+        commonTerm = InMemoryTaskRepository.word(1);
+    }
+
+    @Benchmark
+    public List<TaskDTO> searchRareTerms() {
+        return searchService.search(rareTerms, 0, 20);
+    }
+
+    @Benchmark
+    public List<TaskDTO> searchCommonTerm() {
+        return searchService.search(commonTerm, 0, 20);
+    }
+
+}
@@ -0,0 +1,98 @@
+package br.com.todo.todo.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import br.com.todo.todo.dto.TaskDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms4g", "-Xmx4g" })
+public class TaskSerializationBenchmark {
+
+    @Param({ "10000", "1000000" })
+    private int size;
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    @Param({ "false", "true" })
+    private boolean gzip;
+
+    private List<TaskDTO> tasks;
+    private ObjectMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tasks = InMemoryTaskRepository.tasks(size).stream().map(TaskDTO::new).collect(Collectors.toList());
+        mapper = switch (format) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+    }
+
+    @Benchmark
+    public long serializeTasks(Payload payload) throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        if (gzip) {
+            try (GZIPOutputStream outputStream = new GZIPOutputStream(counter, 8192)) {
+                mapper.writeValue(outputStream, tasks);
+            }
+        } else {
+            mapper.writeValue(counter, tasks);
+        }
+        payload.bytes = counter.count;
+        return counter.count;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long bytes;
+
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+    }
+
+}
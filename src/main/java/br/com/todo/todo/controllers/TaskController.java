@@ -1,63 +1,307 @@
 package br.com.todo.todo.controllers;
 
+import br.com.todo.todo.dto.TaskBulkUpdateResultDTO;
+import br.com.todo.todo.dto.TaskChangesDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskCursor;
 import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.dto.TaskImportResultDTO;
+import br.com.todo.todo.dto.TaskSummaryDTO;
+import br.com.todo.todo.exceptions.PreconditionFailedException;
+import br.com.todo.todo.services.TaskChangeTracker;
+import br.com.todo.todo.services.TaskChangesService;
+import br.com.todo.todo.services.TaskEventStream;
+import br.com.todo.todo.services.TaskExportService;
+import br.com.todo.todo.services.TaskImportService;
+import br.com.todo.todo.services.TaskSearchService;
 import br.com.todo.todo.services.TaskServices;
+import br.com.todo.todo.services.TaskSummaryService;
+import br.com.todo.todo.services.TaskWriteCoalescer;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/todo-list")
 public class TaskController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BATCH_SIZE = 100000;
+    private static final int MAX_QUERY_LENGTH = 200;
+
     private final TaskServices services;
+    private final TaskExportService exportService;
+    private final TaskSummaryService summaryService;
+    private final TaskSearchService searchService;
+    private final TaskChangeTracker changeTracker;
+    private final TaskEventStream eventStream;
+    private final TaskWriteCoalescer writeCoalescer;
+    private final TaskImportService importService;
+    private final TaskChangesService changesService;
 
-    public TaskController(TaskServices services) {
+    public TaskController(TaskServices services, TaskExportService exportService,
+            TaskSummaryService summaryService, TaskSearchService searchService, TaskChangeTracker changeTracker,
+            TaskEventStream eventStream, TaskWriteCoalescer writeCoalescer, TaskImportService importService,
+            TaskChangesService changesService) {
         this.services = services;
+        this.exportService = exportService;
+        this.summaryService = summaryService;
+        this.searchService = searchService;
+        this.changeTracker = changeTracker;
+        this.eventStream = eventStream;
+        this.writeCoalescer = writeCoalescer;
+        this.importService = importService;
+        this.changesService = changesService;
     }
 
     @GetMapping
-    private ResponseEntity<List<TaskDTO>> getAllTasks() {
-        return ResponseEntity.ok(services.getAllTasks());
+    private ResponseEntity<List<TaskDTO>> getAllTasks(
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+            WebRequest request) {
+        TaskCursor cursor = cursorOf(after);
+        TaskFields selectedFields = fields == null ? null : TaskFields.parse(fields);
+        if (notModified(request, filterOf("all", selectedFields), limit, cursor)) {
+            return null;
+        }
+        if (selectedFields != null) {
+            return sparsePage(selectedFields, null, limit, cursor);
+        }
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(services.getAllTasks());
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        return page(services.getAllTasks(pageSize, cursor), pageSize);
     }
 
     @GetMapping("/{taskId}")
     private ResponseEntity<TaskDTO> getTaskById(@PathVariable @Valid @NotNull Long taskId) {
-        return ResponseEntity.ok(services.getTaskById(taskId));
+        return withETag(ResponseEntity.ok(), writeCoalescer.overlay(services.getTaskById(taskId)));
     }
 
     @GetMapping("/done")
-    private ResponseEntity<List<TaskDTO>> getAllDoneTasks() {
-        return ResponseEntity.ok(services.getAllDoneTasks());
+    private ResponseEntity<List<TaskDTO>> getAllDoneTasks(
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+            WebRequest request) {
+        TaskCursor cursor = cursorOf(after);
+        TaskFields selectedFields = fields == null ? null : TaskFields.parse(fields);
+        if (notModified(request, filterOf("done", selectedFields), limit, cursor)) {
+            return null;
+        }
+        if (selectedFields != null) {
+            return sparsePage(selectedFields, true, limit, cursor);
+        }
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(services.getAllDoneTasks());
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        return page(services.getAllDoneTasks(pageSize, cursor), pageSize);
     }
 
     @GetMapping("/pending")
-    private ResponseEntity<List<TaskDTO>> getAllPendingTasks() {
-        return ResponseEntity.ok(services.getAllPendingTasks());
+    private ResponseEntity<List<TaskDTO>> getAllPendingTasks(
+            @RequestParam(required = false) @Positive @Max(MAX_PAGE_SIZE) Integer limit,
+            @RequestParam(required = false) String after, @RequestParam(required = false) String fields,
+            WebRequest request) {
+        TaskCursor cursor = cursorOf(after);
+        TaskFields selectedFields = fields == null ? null : TaskFields.parse(fields);
+        if (notModified(request, filterOf("pending", selectedFields), limit, cursor)) {
+            return null;
+        }
+        if (selectedFields != null) {
+            return sparsePage(selectedFields, false, limit, cursor);
+        }
+        if (limit == null && cursor == null) {
+            return ResponseEntity.ok(services.getAllPendingTasks());
+        }
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        return page(services.getAllPendingTasks(pageSize, cursor), pageSize);
+    }
+
+    @GetMapping("/summary")
+    private ResponseEntity<TaskSummaryDTO> getSummary(WebRequest request) {
+        if (notModified(request, "summary", null, null)) {
+            return null;
+        }
+        return ResponseEntity.ok(summaryService.getSummary());
+    }
+
+    @GetMapping("/pending/next")
+    private ResponseEntity<List<TaskDTO>> getNextPendingTasks(
+            @RequestParam(defaultValue = "10") @Positive @Max(MAX_PAGE_SIZE) Integer n, WebRequest request) {
+        if (notModified(request, "pending.next", n, null)) {
+            return null;
+        }
+        return ResponseEntity.ok(services.getNextPendingTasks(n));
+    }
+
+    @GetMapping("/search")
+    private ResponseEntity<List<TaskDTO>> searchTasks(@RequestParam @NotBlank @Size(max = MAX_QUERY_LENGTH) String q,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer page,
+            @RequestParam(defaultValue = "20") @Positive @Max(MAX_PAGE_SIZE) Integer size) {
+        return ResponseEntity.ok(searchService.search(q, page, size));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    private SseEmitter streamEvents(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventStream.subscribe(lastEventId);
+    }
+
+    @GetMapping("/changes")
+    private ResponseEntity<TaskChangesDTO> getChanges(@RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "1000") @Positive @Max(MAX_PAGE_SIZE) Integer limit) {
+        TaskChangesToken token = since == null ? null : TaskChangesToken.parse(since);
+        return ResponseEntity.ok(changesService.getChanges(token, limit));
+    }
+
+    @GetMapping("/export")
+    private ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        TaskExportService.Format exportFormat = format == null ? TaskExportService.Format.negotiate(accept)
+                : TaskExportService.Format.of(format);
+        StreamingResponseBody body = outputStream -> exportService.exportTasks(exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=tasks." + exportFormat.getExtension())
+                .body(body);
     }
 
     @PostMapping
     private ResponseEntity<TaskDTO> postCreateTask(@RequestBody @Valid TaskDTO taskDTO) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(services.postCreateTask(taskDTO));
+        return withETag(ResponseEntity.status(HttpStatus.CREATED), services.postCreateTask(taskDTO));
+    }
+
+    @PostMapping("/batch")
+    private ResponseEntity<List<Long>> postCreateTasks(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid TaskDTO> taskDTOs) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(services.postCreateTasks(taskDTOs));
+    }
+
+    @PostMapping(value = "/import", consumes = { "text/csv", "application/x-ndjson" })
+    private ResponseEntity<TaskImportResultDTO> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        return ResponseEntity.ok(importService.importTasks(MediaType.parseMediaType(contentType), body));
     }
 
     @PutMapping("/{taskId}")
-    private ResponseEntity<TaskDTO> putUpdateTask(@RequestBody @Valid TaskDTO taskDTO, @PathVariable Long taskId) {
-        return ResponseEntity.ok(services.putUpdateTask(taskDTO, taskId));
+    private ResponseEntity<TaskDTO> putUpdateTask(@RequestBody @Valid TaskDTO taskDTO, @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = versionOf(ifMatch);
+        writeCoalescer.flushIfPending(taskId);
+        TaskDTO updatedTask = expectedVersion == null ? services.putUpdateTask(taskDTO, taskId)
+                : services.putUpdateTask(taskDTO, taskId, expectedVersion);
+        return withETag(ResponseEntity.ok(), updatedTask);
     }
 
     @PatchMapping("/{taskId}")
-    private ResponseEntity<TaskDTO> patchPartialUpdateTask(@RequestBody TaskDTO taskDTO, @PathVariable Long taskId) {
-        return ResponseEntity.ok(services.patchPartialUpdateTask(taskDTO, taskId));
+    private ResponseEntity<TaskDTO> patchPartialUpdateTask(@RequestBody TaskDTO taskDTO, @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Long expectedVersion = versionOf(ifMatch);
+        if (expectedVersion == null && writeCoalescer.isEnabled()) {
+            return withETag(ResponseEntity.accepted(),
+                    writeCoalescer.accept(services.getTaskById(taskId), taskDTO));
+        }
+        writeCoalescer.flushIfPending(taskId);
+        TaskDTO updatedTask = expectedVersion == null ? services.patchPartialUpdateTask(taskDTO, taskId)
+                : services.patchPartialUpdateTask(taskDTO, taskId, expectedVersion);
+        return withETag(ResponseEntity.ok(), updatedTask);
+    }
+
+    @PatchMapping
+    private ResponseEntity<TaskBulkUpdateResultDTO> patchBulkUpdateTasks(@RequestBody TaskDTO taskDTO,
+            @RequestParam(required = false) List<Long> ids,
+            @RequestParam(required = false) Boolean done,
+            @RequestParam(required = false) @Positive Integer maxPriority) {
+        writeCoalescer.flush();
+        int updated = services.patchBulkUpdateTasks(taskDTO, ids, done, maxPriority);
+        return ResponseEntity.ok(new TaskBulkUpdateResultDTO(updated));
     }
 
     @DeleteMapping("/{taskId}")
     private ResponseEntity<Object> deleteTask(@PathVariable Long taskId) {
+        writeCoalescer.flushIfPending(taskId);
         services.deleteTask(taskId);
         return ResponseEntity.noContent().build();
     }
+
+    private Long versionOf(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() > 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            try {
+                return Long.valueOf(etag.substring(1, etag.length() - 1));
+            } catch (NumberFormatException exception) {
+                // falls through to the precondition failure below
+            }
+        }
+        throw new PreconditionFailedException("Task was modified",
+                "The If-Match header does not match the ETag of the task, read it again and retry with the new ETag.");
+    }
+
+    private ResponseEntity<TaskDTO> withETag(ResponseEntity.BodyBuilder response, TaskDTO task) {
+        if (task.version() != null) {
+            response.eTag(String.valueOf(task.version()));
+        }
+        return response.body(task);
+    }
+
+    private boolean notModified(WebRequest request, String filter, Integer limit, TaskCursor after) {
+        if (!changeTracker.isEnabled()) {
+            return false;
+        }
+        String selection = limit == null && after == null ? filter : filter + "." + limit + "." + after;
+        return request.checkNotModified("W/\"" + changeTracker.getVersion() + "-" + selection + "\"");
+    }
+
+    private TaskCursor cursorOf(String after) {
+        return after == null ? null : TaskCursor.parse(after);
+    }
+
+    private String filterOf(String filter, TaskFields fields) {
+        return fields == null ? filter : filter + "[" + fields + "]";
+    }
+
+    private ResponseEntity<List<TaskDTO>> sparsePage(TaskFields fields, Boolean done, Integer limit,
+            TaskCursor after) {
+        Integer pageSize = limit == null && after == null ? null : limit == null ? DEFAULT_PAGE_SIZE : limit;
+        List<TaskDTO> tasks = services.getTasks(fields, done, pageSize, after);
+        List<TaskDTO> selectedTasks = tasks.stream().map(fields::select).collect(Collectors.toList());
+        if (pageSize == null || tasks.size() < pageSize) {
+            return ResponseEntity.ok(selectedTasks);
+        }
+        TaskCursor next = new TaskCursor(tasks.get(tasks.size() - 1));
+        return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, next.toString()).body(selectedTasks);
+    }
+
+    private ResponseEntity<List<TaskDTO>> page(List<TaskDTO> tasks, int pageSize) {
+        if (tasks.size() < pageSize) {
+            return ResponseEntity.ok(tasks);
+        }
+        TaskCursor next = new TaskCursor(tasks.get(tasks.size() - 1));
+        return ResponseEntity.ok().header(NEXT_CURSOR_HEADER, next.toString()).body(tasks);
+    }
 }
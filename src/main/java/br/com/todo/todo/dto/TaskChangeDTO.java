@@ -0,0 +1,6 @@
+package br.com.todo.todo.dto;
+
+import java.time.Instant;
+
+public record TaskChangeDTO(TaskDTO task, Instant updatedAt, Boolean deleted) {
+}
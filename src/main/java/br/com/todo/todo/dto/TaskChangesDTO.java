@@ -0,0 +1,6 @@
+package br.com.todo.todo.dto;
+
+import java.util.List;
+
+public record TaskChangesDTO(List<TaskDTO> changed, List<Long> deleted, String token, Boolean hasMore) {
+}
@@ -0,0 +1,43 @@
+package br.com.todo.todo.dto;
+
+import br.com.todo.todo.exceptions.BadRequestException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+// syncedAt is the settled time of the last sync the client completed, the one the tombstone retention applies to,
+// since a token taken in the middle of a sync may point at rows older than the retention
+public record TaskChangesToken(Instant updatedAt, Long id, Instant syncedAt) {
+
+    private static final String SEPARATOR = ":";
+
+    public TaskChangesToken(Instant updatedAt, Long id) {
+        this(updatedAt, id, updatedAt);
+    }
+
+    public static TaskChangesToken parse(String value) {
+        String[] parts = value.split(SEPARATOR);
+        if (parts.length == 3) {
+            try {
+                return new TaskChangesToken(toInstant(parts[0]), Long.valueOf(parts[1]), toInstant(parts[2]));
+            } catch (NumberFormatException | ArithmeticException exception) {
+                // falls through to the bad request below
+            }
+        }
+        throw new BadRequestException("Invalid sync token",
+                "The since parameter must be the token returned by the previous GET /todo-list/changes");
+    }
+
+    private static Instant toInstant(String micros) {
+        return Instant.EPOCH.plus(Long.parseLong(micros), ChronoUnit.MICROS);
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    @Override
+    public String toString() {
+        return toMicros(updatedAt) + SEPARATOR + id + SEPARATOR + toMicros(syncedAt);
+    }
+}
@@ -0,0 +1,4 @@
+package br.com.todo.todo.dto;
+
+public record TaskCountDTO(Boolean done, Integer priority, Long count) {
+}
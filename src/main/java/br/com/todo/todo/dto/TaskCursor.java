@@ -0,0 +1,30 @@
+package br.com.todo.todo.dto;
+
+import br.com.todo.todo.exceptions.BadRequestException;
+
+public record TaskCursor(Integer priority, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public TaskCursor(TaskDTO task) {
+        this(task.priority(), task.id());
+    }
+
+    public static TaskCursor parse(String value) {
+        String[] parts = value.split(SEPARATOR);
+        if (parts.length == 2) {
+            try {
+                return new TaskCursor(Integer.valueOf(parts[0]), Long.valueOf(parts[1]));
+            } catch (NumberFormatException exception) {
+                // falls through to the bad request below
+            }
+        }
+        throw new BadRequestException("Invalid cursor",
+                "The after parameter must be the cursor returned in the X-Next-Cursor header, e.g. 2:15");
+    }
+
+    @Override
+    public String toString() {
+        return priority + SEPARATOR + id;
+    }
+}
@@ -1,16 +1,25 @@
 package br.com.todo.todo.dto;
 
 import br.com.todo.todo.models.Task;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.*;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record TaskDTO(
         Long id, @NotBlank(message = "Name must be filled with characters") String name,
         @NotBlank(message = "Description must be filled with characters") String description,
         @NotNull(message = "Priority cannot be null") @Positive(message = "Priority cannot be negative or zero") Integer priority,
-        @NotNull(message = "Done cannot be null") Boolean done) {
+        @NotNull(message = "Done cannot be null") Boolean done,
+        @JsonIgnore Long version) {
+
+    public TaskDTO(Long id, String name, String description, Integer priority, Boolean done) {
+        this(id, name, description, priority, done, null);
+    }
 
     public TaskDTO(Task data) {
-        this(data.getId(), data.getName(), data.getDescription(), data.getPriority(), data.getDone());
+        this(data.getId(), data.getName(), data.getDescription(), data.getPriority(), data.getDone(),
+                data.getVersion());
     }
 
 }
\ No newline at end of file
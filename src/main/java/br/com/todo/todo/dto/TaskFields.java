@@ -0,0 +1,50 @@
+package br.com.todo.todo.dto;
+
+import br.com.todo.todo.exceptions.BadRequestException;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record TaskFields(Set<String> names) {
+
+    public static final List<String> ALL = List.of("id", "name", "description", "priority", "done");
+    private static final String SEPARATOR = ",";
+
+    public static TaskFields parse(String value) {
+        Set<String> requested = new LinkedHashSet<>();
+        for (String name : value.split(SEPARATOR)) {
+            requested.add(name.trim());
+        }
+        if (!ALL.containsAll(requested)) {
+            throw new BadRequestException("Invalid fields",
+                    "The fields parameter must be a comma separated list of: " + String.join(", ", ALL));
+        }
+        return new TaskFields(ALL.stream().filter(requested::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    public Set<String> columns() {
+        return ALL.stream()
+                .filter(name -> includes(name) || name.equals("id") || name.equals("priority"))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public TaskDTO select(TaskDTO task) {
+        return new TaskDTO(includes("id") ? task.id() : null,
+                includes("name") ? task.name() : null,
+                includes("description") ? task.description() : null,
+                includes("priority") ? task.priority() : null,
+                includes("done") ? task.done() : null);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(SEPARATOR, names);
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.todo.todo.dto;
+
+import java.util.List;
+
+public record TaskImportResultDTO(Long imported, Long rejected, List<TaskImportErrorDTO> errors) {
+}
@@ -0,0 +1,4 @@
+package br.com.todo.todo.dto;
+
+public record TaskPriorityCountDTO(Integer priority, Long total, Long done, Long pending) {
+}
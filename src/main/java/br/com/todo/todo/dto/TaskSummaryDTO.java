@@ -0,0 +1,29 @@
+package br.com.todo.todo.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record TaskSummaryDTO(Long total, Long done, Long pending, List<TaskPriorityCountDTO> priorities) {
+
+    public static TaskSummaryDTO of(List<TaskCountDTO> counts) {
+        Map<Integer, long[]> byPriority = new TreeMap<>();
+        long done = 0;
+        long pending = 0;
+        for (TaskCountDTO count : counts) {
+            long[] priorityCounts = byPriority.computeIfAbsent(count.priority(), priority -> new long[2]);
+            if (count.done()) {
+                priorityCounts[0] += count.count();
+                done += count.count();
+            } else {
+                priorityCounts[1] += count.count();
+                pending += count.count();
+            }
+        }
+        List<TaskPriorityCountDTO> priorities = new ArrayList<>(byPriority.size());
+        byPriority.forEach((priority, priorityCounts) -> priorities.add(new TaskPriorityCountDTO(priority,
+                priorityCounts[0] + priorityCounts[1], priorityCounts[0], priorityCounts[1])));
+        return new TaskSummaryDTO(done + pending, done, pending, priorities);
+    }
+}
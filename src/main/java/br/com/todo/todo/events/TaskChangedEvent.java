@@ -0,0 +1,26 @@
+package br.com.todo.todo.events;
+
+import br.com.todo.todo.dto.TaskDTO;
+
+public record TaskChangedEvent(Type type, Long taskId, TaskDTO task) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED, RESET
+    }
+
+    public static TaskChangedEvent created(TaskDTO task) {
+        return new TaskChangedEvent(Type.CREATED, task.id(), task);
+    }
+
+    public static TaskChangedEvent updated(TaskDTO task) {
+        return new TaskChangedEvent(Type.UPDATED, task.id(), task);
+    }
+
+    public static TaskChangedEvent deleted(Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, taskId, null);
+    }
+
+    public static TaskChangedEvent reset() {
+        return new TaskChangedEvent(Type.RESET, null, null);
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.todo.todo.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class BadRequestException extends RuntimeException {
+    String details;
+
+    public BadRequestException(String message, String details) {
+        super(message);
+        this.details = details;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.todo.todo.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class GoneException extends RuntimeException {
+    String details;
+
+    public GoneException(String message, String details) {
+        super(message);
+        this.details = details;
+    }
+}
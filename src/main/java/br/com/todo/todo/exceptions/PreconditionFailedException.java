@@ -0,0 +1,13 @@
+package br.com.todo.todo.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class PreconditionFailedException extends RuntimeException {
+    String details;
+
+    public PreconditionFailedException(String message, String details) {
+        super(message);
+        this.details = details;
+    }
+}
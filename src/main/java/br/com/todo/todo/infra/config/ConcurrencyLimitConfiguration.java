@@ -0,0 +1,29 @@
+package br.com.todo.todo.infra.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.todo.infra.filters.ConcurrencyLimitFilter;
+
+@Configuration
+@ConditionalOnProperty(name = "todo.concurrency.max-in-flight")
+public class ConcurrencyLimitConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            @Value("${todo.concurrency.max-in-flight}") int maxInFlight,
+            @Value("${todo.concurrency.acquire-timeout:1s}") Duration acquireTimeout,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                new ConcurrencyLimitFilter(maxInFlight, acquireTimeout, objectMapper));
+        registration.addUrlPatterns("/todo-list", "/todo-list/*");
+        return registration;
+    }
+}
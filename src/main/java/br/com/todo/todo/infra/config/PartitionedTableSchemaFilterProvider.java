@@ -0,0 +1,59 @@
+package br.com.todo.todo.infra.config;
+
+import java.util.Set;
+
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.spi.SchemaFilter;
+import org.hibernate.tool.schema.spi.SchemaFilterProvider;
+
+// Keeps Hibernate's schema tooling away from tables that schema-postgresql.sql creates as partitioned tables,
+// which Hibernate can neither create nor update; set it with hibernate.hbm2ddl.schema_filter_provider
+public class PartitionedTableSchemaFilterProvider implements SchemaFilterProvider {
+
+    private static final Set<String> PARTITIONED_TABLES = Set.of("tasks_archive");
+
+    private static final SchemaFilter FILTER = new SchemaFilter() {
+
+        @Override
+        public boolean includeNamespace(Namespace namespace) {
+            return true;
+        }
+
+        @Override
+        public boolean includeTable(Table table) {
+            return !PARTITIONED_TABLES.contains(table.getName());
+        }
+
+        @Override
+        public boolean includeSequence(Sequence sequence) {
+            return true;
+        }
+    };
+
+    @Override
+    public SchemaFilter getCreateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getDropFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getTruncatorFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getMigrateFilter() {
+        return FILTER;
+    }
+
+    @Override
+    public SchemaFilter getValidateFilter() {
+        return FILTER;
+    }
+}
@@ -3,27 +3,52 @@ package br.com.todo.todo.infra.handlers;
 import java.util.HashMap;
 import java.util.Map;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import br.com.todo.todo.dto.errors.DefaultErrorMessageDTO;
 import br.com.todo.todo.dto.errors.ValidationErrorMessageDTO;
+import br.com.todo.todo.exceptions.BadRequestException;
+import br.com.todo.todo.exceptions.GoneException;
 import br.com.todo.todo.exceptions.NotFoundException;
+import br.com.todo.todo.exceptions.PreconditionFailedException;
 
 @ControllerAdvice
 public class TaskExceptionHandler extends ResponseEntityExceptionHandler {
 
+    private final Counter notFoundCounter;
+    private final Counter bodyValidationCounter;
+    private final Counter parameterValidationCounter;
+
+    public TaskExceptionHandler(ObjectProvider<MeterRegistry> meterRegistry) {
+        MeterRegistry registry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
+        this.notFoundCounter = Counter.builder("todo.tasks.not_found")
+                .description("Requests answered with 404 because the task does not exist")
+                .register(registry);
+        this.bodyValidationCounter = validationCounter(registry, "body");
+        this.parameterValidationCounter = validationCounter(registry, "parameters");
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<DefaultErrorMessageDTO> handleNotFoundException(NotFoundException exception) {
+        notFoundCounter.increment();
         DefaultErrorMessageDTO errorDTO = new DefaultErrorMessageDTO(HttpStatus.NOT_FOUND.value(),
                 exception.getMessage(),
                 exception.getDetails());
@@ -39,9 +64,35 @@ public class TaskExceptionHandler extends ResponseEntityExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorDTO);
     }
 
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<DefaultErrorMessageDTO> handleBadRequestException(BadRequestException exception) {
+        DefaultErrorMessageDTO errorDTO = new DefaultErrorMessageDTO(HttpStatus.BAD_REQUEST.value(),
+                exception.getMessage(),
+                exception.getDetails());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorDTO);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<DefaultErrorMessageDTO> handlePreconditionFailedException(
+            PreconditionFailedException exception) {
+        DefaultErrorMessageDTO errorDTO = new DefaultErrorMessageDTO(HttpStatus.PRECONDITION_FAILED.value(),
+                exception.getMessage(),
+                exception.getDetails());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorDTO);
+    }
+
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<DefaultErrorMessageDTO> handleGoneException(GoneException exception) {
+        DefaultErrorMessageDTO errorDTO = new DefaultErrorMessageDTO(HttpStatus.GONE.value(),
+                exception.getMessage(),
+                exception.getDetails());
+        return ResponseEntity.status(HttpStatus.GONE).body(errorDTO);
+    }
+
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(@NonNull MethodArgumentNotValidException ex,
             @NonNull HttpHeaders headers, @NonNull HttpStatusCode status, @NonNull WebRequest request) {
+        bodyValidationCounter.increment();
 
         Map<String, String> errors = new HashMap<>();
         ex.getBindingResult().getAllErrors().forEach((error) -> {
@@ -55,4 +106,40 @@ public class TaskExceptionHandler extends ResponseEntityExceptionHandler {
 
         return new ResponseEntity<Object>(errorMessage, HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    @Override
+    protected ResponseEntity<Object> handleHandlerMethodValidationException(
+            @NonNull HandlerMethodValidationException ex, @NonNull HttpHeaders headers,
+            @NonNull HttpStatusCode status, @NonNull WebRequest request) {
+        parameterValidationCounter.increment();
+
+        Map<String, String> errors = new HashMap<>();
+        ex.getAllValidationResults().forEach((result) -> {
+
+            String parameterName = result.getMethodParameter().getParameterName();
+            if (result.getContainerIndex() != null) {
+                parameterName += "[" + result.getContainerIndex() + "]";
+            }
+            if (result instanceof ParameterErrors parameterErrors) {
+                for (FieldError error : parameterErrors.getFieldErrors()) {
+                    errors.put(parameterName + "." + error.getField(), error.getDefaultMessage());
+                }
+            } else {
+                for (MessageSourceResolvable error : result.getResolvableErrors()) {
+                    errors.put(parameterName, error.getDefaultMessage());
+                }
+            }
+        });
+        ValidationErrorMessageDTO errorMessage = new ValidationErrorMessageDTO(HttpStatus.BAD_REQUEST.value(),
+                "Validation errors", errors);
+
+        return new ResponseEntity<Object>(errorMessage, HttpStatus.BAD_REQUEST);
+    }
+
+    private static Counter validationCounter(MeterRegistry registry, String source) {
+        return Counter.builder("todo.validation.failures")
+                .description("Requests rejected with 400 because of validation errors")
+                .tag("source", source)
+                .register(registry);
+    }
+}
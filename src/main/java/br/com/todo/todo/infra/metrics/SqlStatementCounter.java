@@ -0,0 +1,28 @@
+package br.com.todo.todo.infra.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Only sees the statements Hibernate prepares, not the ones sent straight to the JDBC connection
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] statements = count.get();
+        count.remove();
+        return statements == null ? 0 : statements[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] statements = count.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+        return sql;
+    }
+}
@@ -1,34 +1,56 @@
 package br.com.todo.todo.models;
 
 import br.com.todo.todo.dto.TaskDTO;
+import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.time.Instant;
 
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "tasks")
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_priority_id", columnList = "priority, id"),
+        @Index(name = "idx_tasks_done_priority_id", columnList = "done, priority, id"),
+        @Index(name = "idx_tasks_updated_at_id", columnList = "updated_at, id")
+})
 public class Task {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Setter(AccessLevel.NONE)
     private long id;
 
     @Column(nullable = false)
     private String name;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private String description;
 
     @Column(nullable = false)
@@ -37,6 +59,26 @@ public class Task {
     @Column(nullable = false)
     private Boolean done;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Setter(AccessLevel.NONE)
+    private Long version;
+
+    // Stamped by the data base like every update and delete, so the delta sync compares times of a single clock
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(insertable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant createdAt;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(insertable = false)
+    @Setter(AccessLevel.NONE)
+    private Instant updatedAt;
+
+    @Setter(AccessLevel.NONE)
+    private Instant deletedAt;
+
     public Task(TaskDTO taskDTO) {
         this.name = taskDTO.name();
         this.description = taskDTO.description();
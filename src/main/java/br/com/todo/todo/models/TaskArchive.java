@@ -0,0 +1,45 @@
+package br.com.todo.todo.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "tasks_archive", indexes = {
+        @Index(name = "idx_tasks_archive_priority_id", columnList = "priority, id")
+})
+public class TaskArchive {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false)
+    private Integer priority;
+
+    @Column(nullable = false)
+    private Boolean done;
+
+    @Column(nullable = false)
+    private Long version;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -0,0 +1,39 @@
+package br.com.todo.todo.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.TaskArchive;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+    public static final String SELECT_TASK_DTO = "SELECT new br.com.todo.todo.dto.TaskDTO(a.id, a.name, a.description, "
+            + "a.priority, a.done, a.version) FROM TaskArchive a ";
+
+    @Query(SELECT_TASK_DTO + "WHERE a.id = :id")
+    public Optional<TaskDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_TASK_DTO + "ORDER BY a.priority, a.id")
+    public List<TaskDTO> findAllByOrderByPriorityAscIdAsc(Pageable pageable);
+
+    @Query(SELECT_TASK_DTO + "WHERE a.priority >= :priority AND (a.priority > :priority OR a.id > :id) "
+            + "ORDER BY a.priority, a.id")
+    public List<TaskDTO> findAllAfter(@Param("priority") Integer priority, @Param("id") Long id,
+            Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("INSERT INTO TaskArchive (id, name, description, priority, done, version, createdAt, updatedAt, "
+            + "archivedAt) SELECT t.id, t.name, t.description, t.priority, t.done, t.version, t.createdAt, "
+            + "t.updatedAt, :archivedAt FROM Task t WHERE t.id IN :ids")
+    public int archiveAllByIds(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+}
@@ -1,15 +1,126 @@
 package br.com.todo.todo.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.todo.todo.dto.TaskCountDTO;
+import br.com.todo.todo.dto.TaskDTO;
 import br.com.todo.todo.models.Task;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    public List<Task> findByDoneTrue();
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    public static final String SELECT_TASK_DTO = "SELECT new br.com.todo.todo.dto.TaskDTO(t.id, t.name, t.description, "
+            + "t.priority, t.done, t.version) FROM Task t ";
+
+    @Query(SELECT_TASK_DTO + "WHERE t.id = :id")
+    public Optional<TaskDTO> findDTOById(@Param("id") Long id);
+
+    @Query(SELECT_TASK_DTO + "WHERE t.id IN :ids")
+    public List<TaskDTO> findDTOByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_TASK_DTO + "WHERE t.done = TRUE ORDER BY t.priority, t.id")
+    public List<TaskDTO> findByDoneTrueOrderByPriorityAscIdAsc();
+
+    @Query(SELECT_TASK_DTO + "WHERE t.done = FALSE ORDER BY t.priority, t.id")
+    public List<TaskDTO> findByDoneFalseOrderByPriorityAscIdAsc();
+
+    @Query(SELECT_TASK_DTO + "ORDER BY t.priority, t.id")
+    public List<TaskDTO> findAllByOrderByPriorityAscIdAsc();
+
+    @Query(SELECT_TASK_DTO + "ORDER BY t.priority, t.id")
+    public List<TaskDTO> findAllByOrderByPriorityAscIdAsc(Pageable pageable);
+
+    @Query(SELECT_TASK_DTO + "WHERE t.done = :done ORDER BY t.priority, t.id")
+    public List<TaskDTO> findByDoneOrderByPriorityAscIdAsc(@Param("done") Boolean done, Pageable pageable);
+
+    @Query(SELECT_TASK_DTO + "WHERE t.priority >= :priority AND (t.priority > :priority OR t.id > :id) "
+            + "ORDER BY t.priority, t.id")
+    public List<TaskDTO> findAllAfter(@Param("priority") Integer priority, @Param("id") Long id,
+            Pageable pageable);
+
+    @Query(SELECT_TASK_DTO + "WHERE t.done = :done AND t.priority >= :priority "
+            + "AND (t.priority > :priority OR t.id > :id) ORDER BY t.priority, t.id")
+    public List<TaskDTO> findByDoneAfter(@Param("done") Boolean done, @Param("priority") Integer priority,
+            @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT new br.com.todo.todo.dto.TaskCountDTO(t.done, t.priority, COUNT(t)) FROM Task t "
+            + "GROUP BY t.done, t.priority")
+    public List<TaskCountDTO> countByDoneAndPriority();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SELECT_TASK_DTO + "ORDER BY t.priority, t.id")
+    public Stream<TaskDTO> streamAllOrdered();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.name = COALESCE(:name, t.name), t.description = COALESCE(:description, t.description), "
+            + "t.priority = COALESCE(:priority, t.priority), t.done = COALESCE(:done, t.done), t.version = t.version + 1, "
+            + "t.updatedAt = CURRENT_INSTANT "
+            + "WHERE t.id IN :ids AND t.deletedAt IS NULL")
+    public int updateAllByIds(@Param("ids") Collection<Long> ids, @Param("name") String name,
+            @Param("description") String description, @Param("priority") Integer priority,
+            @Param("done") Boolean done);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.name = COALESCE(:name, t.name), t.description = COALESCE(:description, t.description), "
+            + "t.priority = COALESCE(:priority, t.priority), t.done = COALESCE(:done, t.done), t.version = t.version + 1, "
+            + "t.updatedAt = CURRENT_INSTANT "
+            + "WHERE (:filterDone IS NULL OR t.done = :filterDone) "
+            + "AND (:maxPriority IS NULL OR t.priority <= :maxPriority) AND t.deletedAt IS NULL")
+    public int updateAllByFilter(@Param("filterDone") Boolean filterDone, @Param("maxPriority") Integer maxPriority,
+            @Param("name") String name, @Param("description") String description,
+            @Param("priority") Integer priority, @Param("done") Boolean done);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.name = COALESCE(:name, t.name), t.description = COALESCE(:description, t.description), "
+            + "t.priority = COALESCE(:priority, t.priority), t.done = COALESCE(:done, t.done), t.version = t.version + 1, "
+            + "t.updatedAt = CURRENT_INSTANT "
+            + "WHERE t.id = :id AND t.version = :version AND t.deletedAt IS NULL")
+    public int updateIfVersionMatches(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+            @Param("description") String description, @Param("priority") Integer priority,
+            @Param("done") Boolean done);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.name = COALESCE(:name, t.name), t.description = COALESCE(:description, t.description), "
+            + "t.priority = COALESCE(:priority, t.priority), t.done = COALESCE(:done, t.done), t.version = t.version + 1, "
+            + "t.updatedAt = CURRENT_INSTANT "
+            + "WHERE t.id = :id AND t.deletedAt IS NULL")
+    public int updateById(@Param("id") Long id, @Param("name") String name, @Param("description") String description,
+            @Param("priority") Integer priority, @Param("done") Boolean done);
+
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    public Long findVersionById(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = CURRENT_INSTANT, t.updatedAt = CURRENT_INSTANT, "
+            + "t.version = t.version + 1 WHERE t.id = :id AND t.deletedAt IS NULL")
+    public int deleteTaskById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.done = TRUE AND t.updatedAt < :cutoff ORDER BY t.updatedAt, t.id")
+    public List<Long> findArchivableIds(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    public int deleteTasksByIds(@Param("ids") Collection<Long> ids);
 
-    public List<Task> findByDoneFalse();
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE deleted_at < :cutoff "
+            + "ORDER BY deleted_at LIMIT :limit)", nativeQuery = true)
+    public int purgeTombstones(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
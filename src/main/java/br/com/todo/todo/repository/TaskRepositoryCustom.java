@@ -0,0 +1,23 @@
+package br.com.todo.todo.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import br.com.todo.todo.dto.TaskChangeDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskCursor;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.models.Task;
+
+public interface TaskRepositoryCustom {
+    public List<Task> saveAllInBatches(List<Task> tasks);
+
+    public List<TaskDTO> searchByText(String query, int limit, long offset);
+
+    public List<TaskDTO> findTasks(TaskFields fields, Boolean done, TaskCursor after, Integer limit);
+
+    public List<TaskChangeDTO> findChanges(TaskChangesToken since, boolean includeDeleted, Instant until, int limit);
+
+    public Instant currentTimestamp();
+}
@@ -0,0 +1,162 @@
+package br.com.todo.todo.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.todo.todo.dto.TaskChangeDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskCursor;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.models.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final String SEARCH_SQL = "SELECT t.id, t.name, t.description, t.priority, t.done, t.version "
+            + "FROM tasks t, websearch_to_tsquery('simple', :query) q "
+            + "WHERE t.search_vector @@ q AND t.deleted_at IS NULL "
+            + "ORDER BY ts_rank(t.search_vector, q) DESC, t.id "
+            + "LIMIT :limit OFFSET :offset";
+
+    private static final String CHANGES_SQL = "SELECT t.id, t.name, t.description, t.priority, t.done, t.version, "
+            + "t.updated_at, t.deleted_at FROM tasks t "
+            + "WHERE t.updated_at >= :updatedAt AND (t.updated_at > :updatedAt OR t.id > :id) "
+            + "AND t.updated_at < :until ";
+    private static final String CHANGES_ORDER_SQL = "ORDER BY t.updated_at, t.id LIMIT :limit";
+    private static final String CURRENT_TIMESTAMP_SQL = "SELECT CURRENT_TIMESTAMP AS current_timestamp_value";
+
+    private final EntityManager entityManager;
+    private final int batchSize;
+
+    public TaskRepositoryCustomImpl(EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    @Transactional
+    public List<Task> saveAllInBatches(List<Task> tasks) {
+        for (int i = 0; i < tasks.size(); i++) {
+            entityManager.persist(tasks.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<TaskDTO> searchByText(String query, int limit, long offset) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL)
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+        List<TaskDTO> tasks = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            tasks.add(new TaskDTO(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                    ((Number) row[3]).intValue(), (Boolean) row[4], ((Number) row[5]).longValue()));
+        }
+        return tasks;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<TaskChangeDTO> findChanges(TaskChangesToken since, boolean includeDeleted, Instant until,
+            int limit) {
+        String sql = CHANGES_SQL + (includeDeleted ? "" : "AND t.deleted_at IS NULL ") + CHANGES_ORDER_SQL;
+        List<Object[]> rows = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("name", StandardBasicTypes.STRING)
+                .addScalar("description", StandardBasicTypes.STRING)
+                .addScalar("priority", StandardBasicTypes.INTEGER)
+                .addScalar("done", StandardBasicTypes.BOOLEAN)
+                .addScalar("version", StandardBasicTypes.LONG)
+                .addScalar("updated_at", StandardBasicTypes.INSTANT)
+                .addScalar("deleted_at", StandardBasicTypes.INSTANT)
+                .setParameter("updatedAt", since.updatedAt())
+                .setParameter("id", since.id())
+                .setParameter("until", until)
+                .setParameter("limit", limit)
+                .getResultList();
+        List<TaskChangeDTO> changes = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            changes.add(new TaskChangeDTO(new TaskDTO((Long) row[0], (String) row[1], (String) row[2],
+                    (Integer) row[3], (Boolean) row[4], (Long) row[5]), (Instant) row[6], row[7] != null));
+        }
+        return changes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Instant currentTimestamp() {
+        return (Instant) entityManager.createNativeQuery(CURRENT_TIMESTAMP_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("current_timestamp_value", StandardBasicTypes.INSTANT)
+                .getSingleResult();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDTO> findTasks(TaskFields fields, Boolean done, TaskCursor after, Integer limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Task> task = query.from(Task.class);
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String column : fields.columns()) {
+            selections.add(task.get(column).alias(column));
+        }
+        Path<Integer> priority = task.get("priority");
+        Path<Long> id = task.get("id");
+        List<Predicate> predicates = new ArrayList<>();
+        if (done != null) {
+            predicates.add(builder.equal(task.get("done"), done));
+        }
+        if (after != null) {
+            predicates.add(builder.greaterThanOrEqualTo(priority, after.priority()));
+            predicates.add(builder.or(builder.greaterThan(priority, after.priority()),
+                    builder.greaterThan(id, after.id())));
+        }
+        query.multiselect(selections)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(builder.asc(priority), builder.asc(id));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        List<Tuple> rows = typedQuery.getResultList();
+        List<TaskDTO> tasks = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            tasks.add(new TaskDTO(row.get("id", Long.class),
+                    fields.includes("name") ? row.get("name", String.class) : null,
+                    fields.includes("description") ? row.get("description", String.class) : null,
+                    row.get("priority", Integer.class),
+                    fields.includes("done") ? row.get("done", Boolean.class) : null));
+        }
+        return tasks;
+    }
+}
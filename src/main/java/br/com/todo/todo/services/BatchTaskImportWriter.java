@@ -0,0 +1,26 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "todo.import.mode", havingValue = "batch", matchIfMissing = true)
+public class BatchTaskImportWriter implements TaskImportWriter {
+
+    private final TaskRepository taskRepository;
+
+    public BatchTaskImportWriter(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public int write(List<TaskDTO> tasks) {
+        return taskRepository.saveAllInBatches(tasks.stream().map(Task::new).collect(Collectors.toList())).size();
+    }
+}
@@ -0,0 +1,196 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(name = "todo.search.mode", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchService implements TaskSearchService {
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final TaskRepository taskRepository;
+    private final Lock lock = new ReentrantLock();
+    private volatile Index index = new Index();
+
+    public InMemoryTaskSearchService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public List<TaskDTO> search(String query, int page, int size) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        Index current = index;
+        Set<Long> matches = current.matching(terms);
+        Comparator<Document> byScore = Comparator.comparingInt((Document document) -> document.score(terms))
+                .reversed()
+                .thenComparing(document -> document.task().id());
+        return matches.stream()
+                .map(current.documents::get)
+                .filter(document -> document != null)
+                .sorted(byScore)
+                .skip((long) page * size)
+                .limit(size)
+                .map(Document::task)
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> upsert(event.task());
+            case DELETED -> remove(event.taskId());
+            case RESET -> reload();
+        }
+    }
+
+    void reload() {
+        lock.lock();
+        try {
+            Index loaded = new Index();
+            taskRepository.findAllByOrderByPriorityAscIdAsc().forEach(loaded::upsert);
+            index = loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void upsert(TaskDTO task) {
+        lock.lock();
+        try {
+            index.upsert(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long taskId) {
+        lock.lock();
+        try {
+            index.remove(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> terms = new HashSet<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String term : SEPARATORS.split(text.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private record Document(TaskDTO task, Set<String> nameTerms, Set<String> descriptionTerms) {
+
+        private int score(Set<String> terms) {
+            int score = 0;
+            for (String term : terms) {
+                if (nameTerms.contains(term)) {
+                    score += NAME_WEIGHT;
+                }
+                if (descriptionTerms.contains(term)) {
+                    score += DESCRIPTION_WEIGHT;
+                }
+            }
+            return score;
+        }
+    }
+
+    private static class Index {
+        private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        // Last version indexed for every task, deleted ones included
+        private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+        private Set<Long> matching(Set<String> terms) {
+            List<Set<Long>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Set<Long> taskIds = postings.get(term);
+                if (taskIds == null) {
+                    return Set.of();
+                }
+                lists.add(taskIds);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            Set<Long> matches = new HashSet<>(lists.get(0));
+            for (int i = 1; i < lists.size() && !matches.isEmpty(); i++) {
+                matches.retainAll(lists.get(i));
+            }
+            return matches;
+        }
+
+        // Ignores an event older than the indexed document, as concurrent commits may publish out of order
+        private void upsert(TaskDTO task) {
+            Long stored = versions.get(task.id());
+            if (task.version() != null && stored != null && task.version() <= stored) {
+                return;
+            }
+            if (task.version() != null) {
+                versions.put(task.id(), task.version());
+            }
+            remove(task.id());
+            Document document = new Document(task, tokenize(task.name()), tokenize(task.description()));
+            documents.put(task.id(), document);
+            addPostings(task.id(), document.nameTerms());
+            addPostings(task.id(), document.descriptionTerms());
+        }
+
+        private void remove(Long taskId) {
+            Document previous = documents.remove(taskId);
+            if (previous != null) {
+                removePostings(taskId, previous.nameTerms());
+                removePostings(taskId, previous.descriptionTerms());
+            }
+        }
+
+        private void addPostings(Long taskId, Set<String> terms) {
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(taskId);
+            }
+        }
+
+        private void removePostings(Long taskId, Set<String> terms) {
+            for (String term : terms) {
+                postings.computeIfPresent(term, (key, taskIds) -> {
+                    taskIds.remove(taskId);
+                    return taskIds.isEmpty() ? null : taskIds;
+                });
+            }
+        }
+    }
+}
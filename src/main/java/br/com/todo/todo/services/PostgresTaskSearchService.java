@@ -0,0 +1,24 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@ConditionalOnProperty(name = "todo.search.mode", havingValue = "postgresql")
+public class PostgresTaskSearchService implements TaskSearchService {
+
+    private final TaskRepository taskRepository;
+
+    public PostgresTaskSearchService(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @Override
+    public List<TaskDTO> search(String query, int page, int size) {
+        return taskRepository.searchByText(query, size, (long) page * size);
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskArchiveRepository;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TaskArchiver {
+
+    private static final String CREATE_PARTITION_SQL = "CREATE TABLE IF NOT EXISTS tasks_archive_%d_%02d "
+            + "PARTITION OF tasks_archive FOR VALUES FROM ('%s') TO ('%s')";
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository archiveRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final boolean partitioned;
+    private final Lock lock = new ReentrantLock();
+
+    public TaskArchiver(TaskRepository taskRepository, TaskArchiveRepository archiveRepository,
+            JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.archive.enabled:false}") boolean enabled,
+            @Value("${todo.archive.max-age:30d}") Duration maxAge,
+            @Value("${todo.archive.batch-size:1000}") int batchSize,
+            @Value("${todo.archive.partitioned:false}") boolean partitioned) {
+        this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.partitioned = partitioned;
+    }
+
+    @Scheduled(fixedDelayString = "${todo.archive.interval:PT1H}", initialDelayString = "${todo.archive.interval:PT1H}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    public int archive() {
+        if (!lock.tryLock()) {
+            return 0;
+        }
+        try {
+            Instant archivedAt = Instant.now();
+            Instant cutoff = archivedAt.minus(maxAge);
+            if (partitioned) {
+                createPartition(YearMonth.from(archivedAt.atOffset(ZoneOffset.UTC)));
+            }
+            int archived = 0;
+            int moved;
+            try {
+                do {
+                    moved = transactionTemplate.execute(status -> archiveBatch(cutoff, archivedAt));
+                    archived += moved;
+                } while (moved == batchSize);
+            } finally {
+                if (archived > 0) {
+                    eventPublisher.publishEvent(TaskChangedEvent.reset());
+                }
+            }
+            return archived;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int archiveBatch(Instant cutoff, Instant archivedAt) {
+        List<Long> ids = taskRepository.findArchivableIds(cutoff, PageRequest.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archiveRepository.archiveAllByIds(ids, archivedAt);
+        return taskRepository.deleteTasksByIds(ids);
+    }
+
+    private void createPartition(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        jdbcTemplate.execute(String.format(CREATE_PARTITION_SQL, month.getYear(), month.getMonthValue(),
+                month.atDay(1) + " 00:00:00+00", next.atDay(1) + " 00:00:00+00"));
+    }
+}
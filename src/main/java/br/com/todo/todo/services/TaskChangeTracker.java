@@ -0,0 +1,44 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.events.TaskChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TaskChangeTracker {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+    private final boolean enabled;
+
+    // The version is only known to this instance, so the list ETags stay off unless a single instance writes
+    public TaskChangeTracker(@Value("${todo.list-etags.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getVersion() {
+        return epoch + "." + version.get();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void beforeCommit(TaskChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    // Runs after the sorted views are updated, so a request that reads the new version never gets the old views
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void afterCommit(TaskChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskChangeDTO;
+import br.com.todo.todo.dto.TaskChangesDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.exceptions.GoneException;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class TaskChangesService {
+
+    private static final TaskChangesToken FIRST_TOKEN = new TaskChangesToken(Instant.EPOCH, 0L);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration settleTime;
+    private final Duration tombstoneRetention;
+    private final int purgeBatchSize;
+
+    public TaskChangesService(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+            @Value("${todo.changes.settle-time:5s}") Duration settleTime,
+            @Value("${todo.changes.tombstone-retention:30d}") Duration tombstoneRetention,
+            @Value("${todo.changes.purge-batch-size:1000}") int purgeBatchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settleTime = settleTime;
+        this.tombstoneRetention = tombstoneRetention;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    // The time is read from the data base, which stamps every insert, update and delete of the tasks
+    public TaskChangesDTO getChanges(TaskChangesToken since, int limit) {
+        Instant now = taskRepository.currentTimestamp();
+        if (since != null && since.syncedAt().isBefore(now.minus(tombstoneRetention))) {
+            throw new GoneException("Sync token expired",
+                    "The deletions after this token may have been purged, sync again without the since parameter.");
+        }
+        Instant until = now.minus(settleTime);
+        List<TaskChangeDTO> changes = taskRepository.findChanges(since == null ? FIRST_TOKEN : since, since != null,
+                until, limit);
+        List<TaskDTO> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (TaskChangeDTO change : changes) {
+            if (change.deleted()) {
+                deleted.add(change.task().id());
+            } else {
+                changed.add(change.task());
+            }
+        }
+        boolean hasMore = changes.size() == limit;
+        return new TaskChangesDTO(changed, deleted, nextToken(since, changes, hasMore, until).toString(), hasMore);
+    }
+
+    // A page that is not full reaches until, so the next sync can start there; rows changed before until but
+    // committed after it are only missed when their transaction took longer than the settle time. A full page keeps
+    // the time of the last completed sync, or of this first one, for the retention check of the next page
+    private static TaskChangesToken nextToken(TaskChangesToken since, List<TaskChangeDTO> changes, boolean hasMore,
+            Instant until) {
+        if (hasMore) {
+            TaskChangeDTO last = changes.get(changes.size() - 1);
+            return new TaskChangesToken(last.updatedAt(), last.task().id(), since == null ? until : since.syncedAt());
+        }
+        if (since != null && since.updatedAt().isAfter(until)) {
+            return since;
+        }
+        return new TaskChangesToken(until, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.changes.purge-interval:PT1H}",
+            initialDelayString = "${todo.changes.purge-interval:PT1H}")
+    public int purgeTombstones() {
+        Instant cutoff = taskRepository.currentTimestamp().minus(tombstoneRetention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> taskRepository.purgeTombstones(cutoff, purgeBatchSize));
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        return purged;
+    }
+}
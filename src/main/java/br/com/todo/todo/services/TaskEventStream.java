@@ -0,0 +1,191 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.events.TaskChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TaskEventStream {
+
+    public static final String RESYNC_EVENT = "resync";
+    static final Entry RESYNC = new Entry(null, null);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Lock lock = new ReentrantLock();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Entry[] buffer;
+    private final int queueSize;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private long sequence;
+
+    public TaskEventStream(@Value("${todo.events.buffer-size:1000}") int bufferSize,
+            @Value("${todo.events.subscriber-queue-size:256}") int queueSize,
+            @Value("${todo.events.timeout:30m}") Duration timeout,
+            @Value("${todo.events.heartbeat:15s}") Duration heartbeat) {
+        this.buffer = new Entry[bufferSize];
+        this.queueSize = queueSize;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = register(lastEventId, emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        Thread.ofVirtual().name("task-events-" + subscriber.hashCode()).start(() -> deliver(subscriber));
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        lock.lock();
+        try {
+            sequence++;
+            Entry entry = new Entry(epoch + "." + sequence, event);
+            buffer[(int) (sequence % buffer.length)] = entry;
+            for (Subscriber subscriber : subscribers) {
+                subscriber.offer(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    Subscriber register(String lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, queueSize);
+        lock.lock();
+        try {
+            List<Entry> missed = missedSince(lastEventId);
+            if (missed == null) {
+                subscriber.resync();
+            } else {
+                missed.forEach(subscriber::offer);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        return subscriber;
+    }
+
+    private List<Entry> missedSince(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return List.of();
+        }
+        int separator = lastEventId.lastIndexOf('.');
+        if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+            return null;
+        }
+        long last;
+        try {
+            last = Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (NumberFormatException exception) {
+            return null;
+        }
+        long oldest = Math.max(1, sequence - buffer.length + 1);
+        if (last > sequence || last + 1 < oldest) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>();
+        for (long next = last + 1; next <= sequence; next++) {
+            missed.add(buffer[(int) (next % buffer.length)]);
+        }
+        return missed;
+    }
+
+    private void deliver(Subscriber subscriber) {
+        SseEmitter emitter = subscriber.emitter;
+        try {
+            while (subscribers.contains(subscriber)) {
+                Entry entry = subscriber.next(heartbeat.toMillis());
+                if (entry == null) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else if (entry == RESYNC) {
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT)
+                            .data(Map.of("type", "RESYNC"), MediaType.APPLICATION_JSON));
+                } else {
+                    emitter.send(SseEmitter.event().id(entry.id())
+                            .name(entry.event().type().name().toLowerCase(Locale.ROOT))
+                            .data(entry.event(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (IOException | IllegalStateException exception) {
+            subscribers.remove(subscriber);
+        } catch (InterruptedException exception) {
+            subscribers.remove(subscriber);
+            emitter.complete();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record Entry(String id, TaskChangedEvent event) {
+    }
+
+    static class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Entry> queue;
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(queueSize);
+        }
+
+        void offer(Entry entry) {
+            if (!queue.offer(entry)) {
+                resync();
+            }
+        }
+
+        void resync() {
+            queue.clear();
+            overflowed.set(true);
+        }
+
+        Entry next(long timeoutMillis) throws InterruptedException {
+            if (overflowed.getAndSet(false)) {
+                return RESYNC;
+            }
+            Entry entry = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (entry == null && overflowed.getAndSet(false)) {
+                return RESYNC;
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.exceptions.BadRequestException;
+import br.com.todo.todo.repository.TaskRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.Getter;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportService {
+
+    @Getter
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        CBOR(MediaType.parseMediaType("application/cbor"), "cbor"),
+        SMILE(MediaType.parseMediaType("application/x-jackson-smile"), "smile");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public static Format of(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("Invalid export format",
+                    "The format parameter must be one of: ndjson, csv, cbor, smile");
+        }
+
+        public static Format negotiate(String accept) {
+            if (accept == null) {
+                return NDJSON;
+            }
+            List<MediaType> acceptedTypes;
+            try {
+                acceptedTypes = MediaType.parseMediaTypes(accept);
+            } catch (InvalidMediaTypeException exception) {
+                return NDJSON;
+            }
+            for (MediaType acceptedType : acceptedTypes) {
+                if (acceptedType.isWildcardType() || acceptedType.isWildcardSubtype()) {
+                    continue;
+                }
+                for (Format format : values()) {
+                    if (format.mediaType.isCompatibleWith(acceptedType)) {
+                        return format;
+                    }
+                }
+            }
+            return NDJSON;
+        }
+    }
+
+    static final String CSV_HEADER = "id,name,description,priority,done";
+
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTasks(Format format, OutputStream outputStream) throws IOException {
+        try (Stream<TaskDTO> tasks = taskRepository.streamAllOrdered()) {
+            switch (format) {
+                case CSV -> writeCsv(tasks.iterator(), outputStream);
+                case CBOR -> writeValues(cborMapper, tasks.iterator(), outputStream);
+                case SMILE -> writeValues(smileMapper, tasks.iterator(), outputStream);
+                default -> writeNdjson(tasks.iterator(), outputStream);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<TaskDTO> tasks, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        while (tasks.hasNext()) {
+            generator.writeObject(tasks.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    private void writeValues(ObjectMapper mapper, Iterator<TaskDTO> tasks, OutputStream outputStream)
+            throws IOException {
+        JsonGenerator generator = mapper.createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        while (tasks.hasNext()) {
+            generator.writeObject(tasks.next());
+        }
+        generator.flush();
+    }
+
+    private void writeCsv(Iterator<TaskDTO> tasks, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (tasks.hasNext()) {
+            TaskDTO task = tasks.next();
+            writer.write(String.valueOf(task.id()));
+            writer.write(',');
+            writer.write(csvField(task.name()));
+            writer.write(',');
+            writer.write(csvField(task.description()));
+            writer.write(',');
+            writer.write(String.valueOf(task.priority()));
+            writer.write(',');
+            writer.write(String.valueOf(task.done()));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
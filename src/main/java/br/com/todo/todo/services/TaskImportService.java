@@ -0,0 +1,285 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskImportErrorDTO;
+import br.com.todo.todo.dto.TaskImportResultDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.exceptions.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskImportService {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format of(MediaType contentType) {
+            if (new MediaType("text", "csv").includes(contentType)) {
+                return CSV;
+            }
+            if (MediaType.parseMediaType("application/x-ndjson").includes(contentType)) {
+                return NDJSON;
+            }
+            throw new BadRequestException("Invalid import format",
+                    "The Content-Type must be text/csv or application/x-ndjson");
+        }
+    }
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "priority", "done");
+
+    private final TaskImportWriter writer;
+    private final ObjectReader taskReader;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public TaskImportService(TaskImportWriter writer, ObjectMapper objectMapper, Validator validator,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${todo.import.batch-size:5000}") int batchSize,
+            @Value("${todo.import.max-errors:100}") int maxErrors) {
+        this.writer = writer;
+        this.taskReader = objectMapper.readerFor(TaskDTO.class);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public TaskImportResultDTO importTasks(MediaType contentType, InputStream inputStream) throws IOException {
+        Format format = Format.of(contentType);
+        Charset charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset));
+        RowSource rows = format == Format.CSV ? new CsvRowSource(reader) : new NdjsonRowSource(reader);
+
+        long imported = 0;
+        long rejected = 0;
+        List<TaskImportErrorDTO> errors = new ArrayList<>();
+        List<TaskDTO> batch = new ArrayList<>(batchSize);
+        try {
+            Row row;
+            while ((row = rows.next()) != null) {
+                String error = row.error() != null ? row.error() : validate(row.task());
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < maxErrors) {
+                        errors.add(new TaskImportErrorDTO(row.line(), error));
+                    }
+                    continue;
+                }
+                batch.add(row.task());
+                if (batch.size() == batchSize) {
+                    imported += writer.write(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                imported += writer.write(batch);
+            }
+        } finally {
+            if (imported > 0) {
+                eventPublisher.publishEvent(TaskChangedEvent.reset());
+            }
+        }
+        return new TaskImportResultDTO(imported, rejected, errors);
+    }
+
+    private String validate(TaskDTO task) {
+        List<ConstraintViolation<TaskDTO>> violations = new ArrayList<>(validator.validate(task));
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private record Row(long line, TaskDTO task, String error) {
+    }
+
+    private interface RowSource {
+
+        Row next() throws IOException;
+    }
+
+    private class NdjsonRowSource implements RowSource {
+
+        private final BufferedReader reader;
+        private long line;
+
+        private NdjsonRowSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Row next() throws IOException {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                try {
+                    return new Row(line, taskReader.readValue(text), null);
+                } catch (JsonProcessingException exception) {
+                    return new Row(line, null, "Invalid JSON: " + exception.getOriginalMessage());
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class CsvRowSource implements RowSource {
+
+        private final CsvRecordReader reader;
+        private Map<String, Integer> columns;
+
+        private CsvRowSource(Reader reader) {
+            this.reader = new CsvRecordReader(reader);
+        }
+
+        @Override
+        public Row next() throws IOException {
+            if (columns == null) {
+                columns = readHeader();
+            }
+            List<String> fields;
+            do {
+                fields = reader.next();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+            long line = reader.getRecordLine();
+            try {
+                return new Row(line, new TaskDTO(null, field(fields, "name"), field(fields, "description"),
+                        priorityOf(field(fields, "priority")), doneOf(field(fields, "done"))), null);
+            } catch (IllegalArgumentException exception) {
+                return new Row(line, null, exception.getMessage());
+            }
+        }
+
+        private Map<String, Integer> readHeader() throws IOException {
+            List<String> header = reader.next();
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; header != null && i < header.size(); i++) {
+                indexes.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!indexes.keySet().containsAll(CSV_COLUMNS)) {
+                throw new BadRequestException("Invalid import file",
+                        "The first line of the CSV must be a header with the columns: "
+                                + String.join(", ", CSV_COLUMNS));
+            }
+            return indexes;
+        }
+
+        private String field(List<String> fields, String column) {
+            int index = columns.get(column);
+            return index < fields.size() ? fields.get(index) : null;
+        }
+
+        private static Integer priorityOf(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("priority: must be an integer");
+            }
+        }
+
+        private static Boolean doneOf(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String done = value.trim();
+            if (done.equalsIgnoreCase("true") || done.equalsIgnoreCase("false")) {
+                return Boolean.valueOf(done);
+            }
+            throw new IllegalArgumentException("done: must be true or false");
+        }
+    }
+
+    static class CsvRecordReader {
+
+        private final Reader reader;
+        private long line = 1;
+        private long recordLine;
+
+        CsvRecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        long getRecordLine() {
+            return recordLine;
+        }
+
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+
+import java.util.List;
+
+public interface TaskSearchService {
+
+    public List<TaskDTO> search(String query, int page, int size);
+}
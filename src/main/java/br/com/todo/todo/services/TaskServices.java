@@ -1,98 +1,293 @@
 package br.com.todo.todo.services;
 
+import br.com.todo.todo.dto.TaskCursor;
 import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.exceptions.BadRequestException;
+import br.com.todo.todo.exceptions.GoneException;
 import br.com.todo.todo.exceptions.NotFoundException;
+import br.com.todo.todo.exceptions.PreconditionFailedException;
 import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskArchiveRepository;
 import br.com.todo.todo.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "todo.tasks.service", histogram = true)
 public class TaskServices {
 
+    public static final String TASKS_CACHE = "tasks";
+
+    private static final Comparator<TaskDTO> PRIORITY_ORDER = Comparator.comparing(TaskDTO::priority)
+            .thenComparing(TaskDTO::id);
+
     private final TaskRepository taskRepository;
+    private final TaskArchiveRepository archiveRepository;
+    private final TaskSortedViews sortedViews;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskServices(TaskRepository taskRepository) {
+    public TaskServices(TaskRepository taskRepository, TaskArchiveRepository archiveRepository,
+            TaskSortedViews sortedViews, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
+        this.archiveRepository = archiveRepository;
+        this.sortedViews = sortedViews;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllTasks() {
-        List<Task> taskList = taskRepository.findAll();
-        return taskList.stream().map(TaskDTO::new)
-                .sorted(Comparator.comparing(TaskDTO::priority).thenComparing(TaskDTO::id))
-                .collect(Collectors.toList());
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllTasks();
+        }
+        return taskRepository.findAllByOrderByPriorityAscIdAsc();
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllTasks(int limit, TaskCursor after) {
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllTasks(limit, after);
+        }
+        Pageable page = PageRequest.ofSize(limit);
+        return after == null ? taskRepository.findAllByOrderByPriorityAscIdAsc(page)
+                : taskRepository.findAllAfter(after.priority(), after.id(), page);
+    }
+
+    // A miss loads the task once per id, and an eviction waits for that load, so a task read before an update
+    // commits is evicted by the update instead of staying cached
+    @Cacheable(cacheNames = TASKS_CACHE, key = "#taskId", sync = true)
+    @Transactional(readOnly = true)
     public TaskDTO getTaskById(Long taskId) {
-        Task task = taskRepository.findById(taskId).orElseThrow(
-                () -> new NotFoundException("Task not found",
-                        "It was not possible to find a task with the specified id, try another one."));
-        return new TaskDTO(task);
+        return taskRepository.findDTOById(taskId).or(() -> archiveRepository.findDTOById(taskId))
+                .orElseThrow(this::taskNotFound);
     }
 
+    // The archive only grows, so it is read a page at a time through getAllDoneTasks(limit, after) and never whole
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllDoneTasks() {
-        List<Task> taskList = taskRepository.findByDoneTrue();
-        return taskList.stream().map(TaskDTO::new)
-                .sorted(Comparator.comparing(TaskDTO::priority).thenComparing(TaskDTO::id))
-                .collect(Collectors.toList());
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllDoneTasks();
+        }
+        return taskRepository.findByDoneTrueOrderByPriorityAscIdAsc();
     }
 
+    @Transactional(readOnly = true)
     public List<TaskDTO> getAllPendingTasks() {
-        List<Task> taskList = taskRepository.findByDoneFalse();
-        return taskList.stream().map(TaskDTO::new)
-                .sorted(Comparator.comparing(TaskDTO::priority).thenComparing(TaskDTO::id))
-                .collect(Collectors.toList());
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllPendingTasks();
+        }
+        return taskRepository.findByDoneFalseOrderByPriorityAscIdAsc();
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllDoneTasks(int limit, TaskCursor after) {
+        List<TaskDTO> tasks = sortedViews.isReady() ? sortedViews.getAllDoneTasks(limit, after)
+                : getTasksPageByDone(true, limit, after);
+        return merge(tasks, getArchivedTasksPage(limit, after), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getAllPendingTasks(int limit, TaskCursor after) {
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllPendingTasks(limit, after);
+        }
+        return getTasksPageByDone(false, limit, after);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getNextPendingTasks(int count) {
+        if (sortedViews.isReady()) {
+            return sortedViews.getAllPendingTasks(count, null);
+        }
+        return taskRepository.findByDoneOrderByPriorityAscIdAsc(false, PageRequest.ofSize(count));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskDTO> getTasks(TaskFields fields, Boolean done, Integer limit, TaskCursor after) {
+        if (sortedViews.isReady()) {
+            if (done == null) {
+                return limit == null ? sortedViews.getAllTasks() : sortedViews.getAllTasks(limit, after);
+            }
+            if (done) {
+                return limit == null ? getAllDoneTasks() : getAllDoneTasks(limit, after);
+            }
+            return limit == null ? sortedViews.getAllPendingTasks() : sortedViews.getAllPendingTasks(limit, after);
+        }
+        List<TaskDTO> tasks = taskRepository.findTasks(fields, done, after, limit);
+        if (!Boolean.TRUE.equals(done) || limit == null) {
+            return tasks;
+        }
+        return merge(tasks, getArchivedTasksPage(limit, after), limit);
+    }
+
+    private List<TaskDTO> getArchivedTasksPage(int limit, TaskCursor after) {
+        Pageable page = PageRequest.ofSize(limit);
+        return after == null ? archiveRepository.findAllByOrderByPriorityAscIdAsc(page)
+                : archiveRepository.findAllAfter(after.priority(), after.id(), page);
+    }
+
+    private static List<TaskDTO> merge(List<TaskDTO> tasks, List<TaskDTO> archivedTasks, int limit) {
+        if (archivedTasks.isEmpty()) {
+            return tasks;
+        }
+        List<TaskDTO> merged = new ArrayList<>(Math.min(limit, tasks.size() + archivedTasks.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < tasks.size() || j < archivedTasks.size())) {
+            if (j == archivedTasks.size()
+                    || (i < tasks.size() && PRIORITY_ORDER.compare(tasks.get(i), archivedTasks.get(j)) <= 0)) {
+                merged.add(tasks.get(i++));
+            } else {
+                merged.add(archivedTasks.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private List<TaskDTO> getTasksPageByDone(Boolean done, int limit, TaskCursor after) {
+        Pageable page = PageRequest.ofSize(limit);
+        return after == null ? taskRepository.findByDoneOrderByPriorityAscIdAsc(done, page)
+                : taskRepository.findByDoneAfter(done, after.priority(), after.id(), page);
     }
 
+    @CachePut(cacheNames = TASKS_CACHE, key = "#result.id")
+    @Transactional
     public TaskDTO postCreateTask(TaskDTO taskDTO) {
-        return new TaskDTO(taskRepository.save(new Task(taskDTO)));
+        TaskDTO createdTask = new TaskDTO(taskRepository.save(new Task(taskDTO)));
+        eventPublisher.publishEvent(TaskChangedEvent.created(createdTask));
+        return createdTask;
     }
 
+    @Transactional
+    public List<Long> postCreateTasks(List<TaskDTO> taskDTOs) {
+        List<Task> tasks = taskDTOs.stream().map(Task::new).collect(Collectors.toList());
+        List<Task> createdTasks = taskRepository.saveAllInBatches(tasks);
+        createdTasks.forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.created(new TaskDTO(task))));
+        return createdTasks.stream().map(Task::getId).collect(Collectors.toList());
+    }
+
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    @Transactional
     public TaskDTO putUpdateTask(TaskDTO taskDTO, Long taskId) {
-        Optional<Task> existingTask = taskRepository.findById(taskId);
-        if (existingTask.isPresent()) {
-            Task updatedTask = new Task(taskDTO, taskId);
-            return new TaskDTO(taskRepository.save(updatedTask));
-        } else {
-            throw new NotFoundException("Task not found",
-                    "It was not possible to find a task with the specified id, try another one.");
+        int updated = taskRepository.updateById(taskId, taskDTO.name(), taskDTO.description(), taskDTO.priority(),
+                taskDTO.done());
+        if (updated == 0) {
+            throw missingTask(taskId);
         }
+        TaskDTO savedTask = new TaskDTO(taskId, taskDTO.name(), taskDTO.description(), taskDTO.priority(),
+                taskDTO.done(), taskRepository.findVersionById(taskId));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask));
+        return savedTask;
+    }
+
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    @Transactional
+    public TaskDTO putUpdateTask(TaskDTO taskDTO, Long taskId, Long expectedVersion) {
+        updateIfVersionMatches(taskDTO, taskId, expectedVersion);
+        TaskDTO savedTask = new TaskDTO(taskId, taskDTO.name(), taskDTO.description(), taskDTO.priority(),
+                taskDTO.done(), expectedVersion + 1);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask));
+        return savedTask;
     }
 
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    @Transactional
     public TaskDTO patchPartialUpdateTask(TaskDTO taskDTO, Long taskId) {
-        if (taskDTO.name() == null && taskDTO.description() == null && taskDTO.priority() == null
-                && taskDTO.done() == null) {
-            throw new IllegalArgumentException("At least one field must be provided to update the task");
+        requireAnyField(taskDTO);
+        int updated = taskRepository.updateById(taskId, taskDTO.name(), taskDTO.description(), taskDTO.priority(),
+                taskDTO.done());
+        if (updated == 0) {
+            throw missingTask(taskId);
         }
-        Optional<Task> existingTask = taskRepository.findById(taskId);
-        if (existingTask.isPresent()) {
-            Task taskToUpdate = existingTask.get();
-            if (taskDTO.name() != null && !(taskDTO.name().equals(taskToUpdate.getName())))
-                taskToUpdate.setName(taskDTO.name());
-            if (taskDTO.description() != null && !(taskDTO.description().equals(taskToUpdate.getDescription())))
-                taskToUpdate.setDescription(taskDTO.description());
-            if (taskDTO.priority() != null && !(taskDTO.priority().equals(taskToUpdate.getPriority())))
-                taskToUpdate.setPriority(taskDTO.priority());
-            if (taskDTO.done() != null && !(taskDTO.done().equals(taskToUpdate.getDone())))
-                taskToUpdate.setDone(taskDTO.done());
-            return new TaskDTO(taskRepository.save(taskToUpdate));
-        } else {
-            throw new NotFoundException("Task not found",
-                    "It was not possible to find a task with the specified id, try another one.");
+        return readUpdatedTask(taskId);
+    }
+
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    @Transactional
+    public TaskDTO patchPartialUpdateTask(TaskDTO taskDTO, Long taskId, Long expectedVersion) {
+        requireAnyField(taskDTO);
+        updateIfVersionMatches(taskDTO, taskId, expectedVersion);
+        return readUpdatedTask(taskId);
+    }
+
+    @CacheEvict(cacheNames = TASKS_CACHE, allEntries = true)
+    @Transactional
+    public int patchBulkUpdateTasks(TaskDTO taskDTO, List<Long> ids, Boolean done, Integer maxPriority) {
+        requireAnyField(taskDTO);
+        boolean hasIds = ids != null && !ids.isEmpty();
+        boolean hasFilter = done != null || maxPriority != null;
+        if (hasIds == hasFilter) {
+            throw new BadRequestException("Invalid tasks selection",
+                    "Select the tasks to update either by ids or by filter (done, maxPriority), not both");
         }
+        int updated = hasIds
+                ? taskRepository.updateAllByIds(ids, taskDTO.name(), taskDTO.description(), taskDTO.priority(),
+                        taskDTO.done())
+                : taskRepository.updateAllByFilter(done, maxPriority, taskDTO.name(), taskDTO.description(),
+                        taskDTO.priority(), taskDTO.done());
+        if (updated > 0) {
+            eventPublisher.publishEvent(TaskChangedEvent.reset());
+        }
+        return updated;
     }
 
+    @CacheEvict(cacheNames = TASKS_CACHE, key = "#taskId")
+    @Transactional
     public void deleteTask(Long taskId) {
-        Optional<Task> existingTask = taskRepository.findById(taskId);
-        if (existingTask.isPresent()) {
-            taskRepository.deleteById(taskId);
-        } else {
-            throw new NotFoundException("Task not found",
-                    "It was not possible to find a task with the specified id, try another one.");
+        if (taskRepository.deleteTaskById(taskId) == 0) {
+            throw missingTask(taskId);
+        }
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(taskId));
+    }
+
+    private TaskDTO readUpdatedTask(Long taskId) {
+        TaskDTO savedTask = taskRepository.findDTOById(taskId).orElseThrow(this::taskNotFound);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask));
+        return savedTask;
+    }
+
+    private void updateIfVersionMatches(TaskDTO taskDTO, Long taskId, Long expectedVersion) {
+        int updated = taskRepository.updateIfVersionMatches(taskId, expectedVersion, taskDTO.name(),
+                taskDTO.description(), taskDTO.priority(), taskDTO.done());
+        if (updated == 0) {
+            if (taskRepository.existsById(taskId)) {
+                throw new PreconditionFailedException("Task was modified",
+                        "The task has been changed since it was read, read it again and retry with the new ETag.");
+            }
+            throw missingTask(taskId);
+        }
+    }
+
+    private RuntimeException missingTask(Long taskId) {
+        if (archiveRepository.existsById(taskId)) {
+            return new GoneException("Task was archived",
+                    "The task was moved to the archive and can only be read, create a new task instead.");
+        }
+        return taskNotFound();
+    }
+
+    private NotFoundException taskNotFound() {
+        return new NotFoundException("Task not found",
+                "It was not possible to find a task with the specified id, try another one.");
+    }
+
+    private void requireAnyField(TaskDTO taskDTO) {
+        if (taskDTO.name() == null && taskDTO.description() == null && taskDTO.priority() == null
+                && taskDTO.done() == null) {
+            throw new IllegalArgumentException("At least one field must be provided to update the task");
         }
     }
 }
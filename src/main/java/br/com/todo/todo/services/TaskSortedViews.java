@@ -0,0 +1,160 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskCursor;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+@Component
+public class TaskSortedViews {
+
+    private static final Comparator<TaskCursor> ORDER = Comparator.comparing(TaskCursor::priority)
+            .thenComparing(TaskCursor::id);
+
+    private final TaskRepository taskRepository;
+    private final boolean enabled;
+    private final Lock lock = new ReentrantLock();
+    private volatile Views views;
+
+    public TaskSortedViews(TaskRepository taskRepository,
+            @Value("${todo.sorted-views.enabled:false}") boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return views != null;
+    }
+
+    public List<TaskDTO> getAllTasks() {
+        return new ArrayList<>(views.all.values());
+    }
+
+    public List<TaskDTO> getAllDoneTasks() {
+        return new ArrayList<>(views.done.values());
+    }
+
+    public List<TaskDTO> getAllPendingTasks() {
+        return new ArrayList<>(views.pending.values());
+    }
+
+    public List<TaskDTO> getAllTasks(int limit, TaskCursor after) {
+        return page(views.all, limit, after);
+    }
+
+    public List<TaskDTO> getAllDoneTasks(int limit, TaskCursor after) {
+        return page(views.done, limit, after);
+    }
+
+    public List<TaskDTO> getAllPendingTasks(int limit, TaskCursor after) {
+        return page(views.pending, limit, after);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            reload();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> upsert(event.task());
+            case DELETED -> remove(event.taskId());
+            case RESET -> reload();
+        }
+    }
+
+    void reload() {
+        lock.lock();
+        try {
+            Views loaded = new Views();
+            taskRepository.findAllByOrderByPriorityAscIdAsc().forEach(loaded::upsert);
+            views = loaded;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void upsert(TaskDTO task) {
+        lock.lock();
+        try {
+            views.upsert(task);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Long taskId) {
+        lock.lock();
+        try {
+            views.remove(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<TaskDTO> page(NavigableMap<TaskCursor, TaskDTO> view, int limit, TaskCursor after) {
+        NavigableMap<TaskCursor, TaskDTO> tail = after == null ? view : view.tailMap(after, false);
+        return tail.values().stream().limit(limit).collect(Collectors.toList());
+    }
+
+    private static class Views {
+        private final Map<Long, TaskDTO> byId = new ConcurrentHashMap<>();
+        // Kept after a task is removed, so a late event of a deleted task does not bring it back
+        private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<TaskCursor, TaskDTO> all = new ConcurrentSkipListMap<>(ORDER);
+        private final ConcurrentSkipListMap<TaskCursor, TaskDTO> done = new ConcurrentSkipListMap<>(ORDER);
+        private final ConcurrentSkipListMap<TaskCursor, TaskDTO> pending = new ConcurrentSkipListMap<>(ORDER);
+
+        // The events of two transactions can arrive out of commit order, so an event that is not newer than the
+        // stored version is dropped
+        private void upsert(TaskDTO task) {
+            Long stored = versions.get(task.id());
+            if (task.version() != null && stored != null && task.version() <= stored) {
+                return;
+            }
+            if (task.version() != null) {
+                versions.put(task.id(), task.version());
+            }
+            remove(task.id());
+            TaskCursor key = new TaskCursor(task);
+            byId.put(task.id(), task);
+            all.put(key, task);
+            (task.done() ? done : pending).put(key, task);
+        }
+
+        private void remove(Long taskId) {
+            TaskDTO previous = byId.remove(taskId);
+            if (previous != null) {
+                TaskCursor key = new TaskCursor(previous);
+                all.remove(key);
+                done.remove(key);
+                pending.remove(key);
+            }
+        }
+    }
+}
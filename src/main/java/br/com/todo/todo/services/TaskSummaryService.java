@@ -0,0 +1,41 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskSummaryDTO;
+import br.com.todo.todo.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+@Service
+public class TaskSummaryService {
+
+    private final TaskRepository taskRepository;
+    private final TaskChangeTracker changeTracker;
+    private final Duration cacheTtl;
+    private volatile CachedSummary cached;
+
+    public TaskSummaryService(TaskRepository taskRepository, TaskChangeTracker changeTracker,
+            @Value("${todo.summary.cache-ttl:0s}") Duration cacheTtl) {
+        this.taskRepository = taskRepository;
+        this.changeTracker = changeTracker;
+        this.cacheTtl = cacheTtl;
+    }
+
+    public TaskSummaryDTO getSummary() {
+        String version = changeTracker.getVersion();
+        long now = System.nanoTime();
+        CachedSummary current = cached;
+        if (current != null && current.version().equals(version) && now - current.expiresAt() < 0) {
+            return current.summary();
+        }
+        TaskSummaryDTO summary = TaskSummaryDTO.of(taskRepository.countByDoneAndPriority());
+        if (!cacheTtl.isZero()) {
+            cached = new CachedSummary(summary, version, now + cacheTtl.toNanos());
+        }
+        return summary;
+    }
+
+    private record CachedSummary(TaskSummaryDTO summary, String version, long expiresAt) {
+    }
+}
@@ -0,0 +1,222 @@
+package br.com.todo.todo.services;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class TaskWriteCoalescer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskWriteCoalescer.class);
+
+    private static final String UPDATE_SQL = "UPDATE tasks SET name = COALESCE(?, name), "
+            + "description = COALESCE(?, description), priority = COALESCE(?, priority), done = COALESCE(?, done), "
+            + "version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ? AND deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxPending;
+    private final Lock lock = new ReentrantLock();
+    private final Map<Long, TaskDTO> pending = new ConcurrentHashMap<>();
+    private final Map<Long, TaskDTO> flushing = new ConcurrentHashMap<>();
+
+    public TaskWriteCoalescer(JdbcTemplate jdbcTemplate, TaskRepository taskRepository,
+            ApplicationEventPublisher eventPublisher, CacheManager cacheManager,
+            PlatformTransactionManager transactionManager,
+            @Value("${todo.write-coalescing.enabled:false}") boolean enabled,
+            @Value("${todo.write-coalescing.max-pending:500}") int maxPending) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TaskDTO accept(TaskDTO current, TaskDTO changes) {
+        if (changes.name() == null && changes.description() == null && changes.priority() == null
+                && changes.done() == null) {
+            throw new IllegalArgumentException("At least one field must be provided to update the task");
+        }
+        pending.compute(current.id(),
+                (id, older) -> older == null ? withVersion(changes, nextVersion(current)) : apply(older, changes));
+        TaskDTO task = overlay(current);
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+        return task;
+    }
+
+    public TaskDTO overlay(TaskDTO task) {
+        TaskDTO pendingChanges = pending.get(task.id());
+        TaskDTO flushingChanges = flushing.get(task.id());
+        if (pendingChanges == null && flushingChanges == null) {
+            return task;
+        }
+        TaskDTO overlaid = flushingChanges == null ? task : apply(task, flushingChanges);
+        return pendingChanges == null ? overlaid : apply(overlaid, pendingChanges);
+    }
+
+    public void flushIfPending(Long taskId) {
+        if (pending.containsKey(taskId) || flushing.containsKey(taskId)) {
+            flush();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.write-coalescing.interval:PT0.1S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (Long taskId : pending.keySet()) {
+                pending.computeIfPresent(taskId, (id, changes) -> {
+                    flushing.put(id, changes);
+                    return null;
+                });
+            }
+            if (flushing.isEmpty()) {
+                return;
+            }
+            List<Long> ids = new ArrayList<>(flushing.keySet());
+            try {
+                write(ids);
+            } catch (RuntimeException exception) {
+                if (isTransient(exception)) {
+                    requeue(ids);
+                    throw exception;
+                }
+                writeOneByOne(ids);
+            } finally {
+                Cache cache = cacheManager.getCache(TaskServices.TASKS_CACHE);
+                if (cache != null) {
+                    ids.forEach(cache::evict);
+                }
+                flushing.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(List<Long> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, new ChangesSetter(ids));
+            taskRepository.findDTOByIdIn(ids)
+                    .forEach(task -> eventPublisher.publishEvent(TaskChangedEvent.updated(task)));
+        });
+    }
+
+    // A batch that fails for good has at least one change the data base refuses, so every change is written alone
+    // and the refused ones are dropped instead of failing every following flush
+    private void writeOneByOne(List<Long> ids) {
+        for (Long id : ids) {
+            try {
+                write(List.of(id));
+            } catch (RuntimeException exception) {
+                if (isTransient(exception)) {
+                    requeue(List.of(id));
+                } else {
+                    LOGGER.warn("Dropping the coalesced changes of the task {}: {}", id, flushing.get(id), exception);
+                }
+            }
+        }
+    }
+
+    private void requeue(List<Long> ids) {
+        ids.forEach(id -> pending.merge(id, flushing.get(id),
+                (newer, older) -> withVersion(apply(older, newer), older.version())));
+    }
+
+    private static boolean isTransient(RuntimeException exception) {
+        return exception instanceof TransientDataAccessException || exception instanceof RecoverableDataAccessException
+                || exception instanceof DataAccessResourceFailureException || exception instanceof TransactionException;
+    }
+
+    // Every flush writes a task with one update, so its version after the flush is the current one plus one
+    private Long nextVersion(TaskDTO current) {
+        TaskDTO flushingChanges = flushing.get(current.id());
+        Long version = flushingChanges != null ? flushingChanges.version() : current.version();
+        return version == null ? null : version + 1;
+    }
+
+    private static TaskDTO apply(TaskDTO task, TaskDTO changes) {
+        return new TaskDTO(task.id(),
+                changes.name() != null ? changes.name() : task.name(),
+                changes.description() != null ? changes.description() : task.description(),
+                changes.priority() != null ? changes.priority() : task.priority(),
+                changes.done() != null ? changes.done() : task.done(),
+                changes.version() != null ? changes.version() : task.version());
+    }
+
+    private static TaskDTO withVersion(TaskDTO task, Long version) {
+        return new TaskDTO(task.id(), task.name(), task.description(), task.priority(), task.done(), version);
+    }
+
+    private class ChangesSetter implements BatchPreparedStatementSetter {
+
+        private final List<Long> ids;
+
+        private ChangesSetter(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public void setValues(PreparedStatement statement, int index) throws SQLException {
+            Long id = ids.get(index);
+            TaskDTO changes = flushing.get(id);
+            statement.setObject(1, changes.name(), Types.VARCHAR);
+            statement.setObject(2, changes.description(), Types.VARCHAR);
+            statement.setObject(3, changes.priority(), Types.INTEGER);
+            statement.setObject(4, changes.done(), Types.BOOLEAN);
+            statement.setLong(5, id);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return ids.size();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING GIN (search_vector);
+
+CREATE TABLE IF NOT EXISTS tasks_archive (
+    id bigint NOT NULL,
+    name varchar(255) NOT NULL,
+    description varchar(255) NOT NULL,
+    priority integer NOT NULL,
+    done boolean NOT NULL,
+    version bigint NOT NULL,
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    archived_at timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (id, archived_at)
+) PARTITION BY RANGE (archived_at);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_archive_priority_id ON tasks_archive (priority, id);
+
+ALTER TABLE tasks_archive ADD COLUMN IF NOT EXISTS created_at timestamp(6) with time zone;
+
+UPDATE tasks SET created_at = COALESCE(created_at, CURRENT_TIMESTAMP), updated_at = CURRENT_TIMESTAMP
+    WHERE updated_at IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN created_at SET DEFAULT CURRENT_TIMESTAMP;
+
+ALTER TABLE tasks ALTER COLUMN updated_at SET DEFAULT CURRENT_TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_tasks_deleted_at;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_tombstones ON tasks (deleted_at) WHERE deleted_at IS NOT NULL;
+
+DROP INDEX IF EXISTS idx_tasks_done_updated_at;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_archivable ON tasks (updated_at, id) WHERE done = TRUE AND deleted_at IS NULL;
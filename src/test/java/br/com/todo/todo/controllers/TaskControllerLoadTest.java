@@ -0,0 +1,258 @@
+package br.com.todo.todo.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskRepository;
+
+@Tag("load")
+@ActiveProfiles("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class TaskControllerLoadTest {
+
+        private static final String TASK_JSON = "{\"name\":\"Load task\",\"description\":\"Load task description\","
+                        + "\"priority\":%d,\"done\":false}";
+
+        @LocalServerPort
+        private int port;
+
+        @Autowired
+        private TaskRepository repository;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Value("${load.seed-tasks}")
+        private int seedTasks;
+
+        @Value("${load.clients}")
+        private int clients;
+
+        @Value("${load.warmup-seconds}")
+        private long warmupSeconds;
+
+        @Value("${load.duration-seconds}")
+        private long durationSeconds;
+
+        @Value("${load.max-p99-millis}")
+        private long maxP99Millis;
+
+        @Value("${load.max-p999-millis}")
+        private long maxP999Millis;
+
+        @Value("${load.max-error-rate}")
+        private double maxErrorRate;
+
+        private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+        private ExecutorService httpClientExecutor;
+        private HttpClient httpClient;
+        private List<Long> seededIds;
+
+        @BeforeEach
+        public void setup() {
+                repository.deleteAll();
+
+                List<Task> tasks = new ArrayList<>(seedTasks);
+                for (int i = 1; i <= seedTasks; i++) {
+                        tasks.add(new Task(new TaskDTO(null, "Task name " + i, "Task description " + i, i % 10 + 1,
+                                        i % 2 == 0)));
+                }
+                seededIds = repository.saveAllInBatches(tasks).stream().map(Task::getId).toList();
+
+                httpClientExecutor = Executors.newFixedThreadPool(clients);
+                httpClient = HttpClient.newBuilder()
+                                .executor(httpClientExecutor)
+                                .connectTimeout(Duration.ofSeconds(5))
+                                .build();
+        }
+
+        @AfterEach
+        public void tearDown() {
+                httpClient.close();
+                httpClientExecutor.shutdownNow();
+        }
+
+        @Test
+        @DisplayName("Should keep the latency of every endpoint under the configured thresholds with mixed traffic")
+        void whenMixedTrafficFromConcurrentClients_thenLatencyStaysUnderThresholds() throws Exception {
+                // Arrange
+
+                long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+                long end = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+                // Act
+
+                try (ExecutorService executor = Executors.newFixedThreadPool(clients)) {
+                        List<Future<?>> results = new ArrayList<>();
+                        for (int i = 0; i < clients; i++) {
+                                results.add(executor.submit(() -> runClient(warmupEnd, end)));
+                        }
+                        for (Future<?> result : results) {
+                                result.get();
+                        }
+                }
+
+                // Assert
+
+                List<String> failures = report();
+                assertTrue(failures.isEmpty(), "The load test crossed the configured thresholds: " + failures);
+
+        }
+
+        private void runClient(long warmupEnd, long end) {
+                Deque<Long> createdIds = new ArrayDeque<>();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < end) {
+                        int roll = random.nextInt(100);
+                        long seededId = seededIds.get(random.nextInt(seededIds.size()));
+                        if (roll < 40) {
+                                send("GET /todo-list/{id}", get("/todo-list/" + seededId), warmupEnd);
+                        } else if (roll < 55) {
+                                send("GET /todo-list", get("/todo-list?limit=100"), warmupEnd);
+                        } else if (roll < 65) {
+                                send("GET /todo-list/pending", get("/todo-list/pending?limit=100"), warmupEnd);
+                        } else if (roll < 77) {
+                                send("PATCH /todo-list/{id}", json("/todo-list/" + seededId)
+                                                .method("PATCH", body("{\"priority\":" + random.nextInt(1, 11) + "}")),
+                                                warmupEnd);
+                        } else if (roll < 92 || createdIds.isEmpty()) {
+                                String task = TASK_JSON.formatted(random.nextInt(1, 11));
+                                HttpResponse<String> response = send("POST /todo-list",
+                                                json("/todo-list").POST(body(task)), warmupEnd);
+                                if (response != null && response.statusCode() == 201) {
+                                        createdIds.push(idOf(response.body()));
+                                }
+                        } else {
+                                send("DELETE /todo-list/{id}", request("/todo-list/" + createdIds.pop()).DELETE(),
+                                                warmupEnd);
+                        }
+                }
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest.Builder request, long warmupEnd) {
+                long start = System.nanoTime();
+                HttpResponse<String> response = null;
+                try {
+                        response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+                } catch (Exception e) {
+                        if (e instanceof InterruptedException) {
+                                Thread.currentThread().interrupt();
+                        }
+                }
+                long elapsed = System.nanoTime() - start;
+                if (start >= warmupEnd) {
+                        boolean failed = response == null || response.statusCode() >= 400;
+                        stats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(elapsed, failed);
+                }
+                return response;
+        }
+
+        private List<String> report() {
+                List<String> failures = new ArrayList<>();
+                System.out.printf("%n%-26s %10s %8s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s",
+                                "p50 ms", "p99 ms", "p999 ms");
+                stats.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+                        String endpoint = entry.getKey();
+                        Histogram histogram = entry.getValue().latencies;
+                        long requests = histogram.getTotalCount();
+                        long errors = entry.getValue().errors.sum();
+                        double p50 = millis(histogram.getValueAtPercentile(50));
+                        double p99 = millis(histogram.getValueAtPercentile(99));
+                        double p999 = millis(histogram.getValueAtPercentile(99.9));
+                        System.out.printf("%-26s %10d %8d %10.1f %10.2f %10.2f %10.2f%n", endpoint, requests, errors,
+                                        (double) requests / durationSeconds, p50, p99, p999);
+
+                        if (p99 > maxP99Millis) {
+                                failures.add(endpoint + " p99 " + p99 + " ms > " + maxP99Millis + " ms");
+                        }
+                        if (p999 > maxP999Millis) {
+                                failures.add(endpoint + " p999 " + p999 + " ms > " + maxP999Millis + " ms");
+                        }
+                        if ((double) errors / requests > maxErrorRate) {
+                                failures.add(endpoint + " error rate " + errors + "/" + requests + " > "
+                                                + maxErrorRate);
+                        }
+                });
+                return failures;
+        }
+
+        private HttpRequest.Builder request(String path) {
+                return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                .timeout(Duration.ofSeconds(30));
+        }
+
+        private HttpRequest.Builder get(String path) {
+                return request(path).GET();
+        }
+
+        private HttpRequest.Builder json(String path) {
+                return request(path).header("Content-Type", "application/json");
+        }
+
+        private static HttpRequest.BodyPublisher body(String json) {
+                return HttpRequest.BodyPublishers.ofString(json);
+        }
+
+        private long idOf(String json) {
+                try {
+                        return objectMapper.readValue(json, TaskDTO.class).id();
+                } catch (JsonProcessingException e) {
+                        throw new IllegalStateException("Invalid task returned by POST /todo-list: " + json, e);
+                }
+        }
+
+        private static double millis(long micros) {
+                return micros / 1000.0;
+        }
+
+        private static class EndpointStats {
+
+                private final Histogram latencies = new ConcurrentHistogram(3);
+                private final LongAdder errors = new LongAdder();
+
+                private void record(long elapsedNanos, boolean failed) {
+                        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+                        if (failed) {
+                                errors.increment();
+                        }
+                }
+
+        }
+
+}
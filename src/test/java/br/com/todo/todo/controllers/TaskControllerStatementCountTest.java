@@ -0,0 +1,121 @@
+package br.com.todo.todo.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = { "spring.cache.type=none",
+                "spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureMockMvc
+public class TaskControllerStatementCountTest {
+
+        private static final String TASK_JSON = "{\"name\":\"Task name\",\"description\":\"Task description\",\"priority\":2,\"done\":false}";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private TaskRepository repository;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        private Statistics statistics;
+
+        private long taskId;
+
+        @BeforeEach
+        public void setup() {
+                repository.deleteAll();
+                taskId = repository.save(new Task(new TaskDTO(null, "Task name", "Task description", 1, false)))
+                                .getId();
+
+                statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.clear();
+        }
+
+        @Test
+        @DisplayName("Should read a task with a single statement")
+        void whenGetTaskById_thenExecuteOneStatement() throws Exception {
+                mockMvc.perform(get("/todo-list/{id}", taskId)).andExpect(status().isOk());
+
+                assertEquals(1, statistics.getPrepareStatementCount(),
+                                "Reading a task did not execute exactly one statement");
+        }
+
+        @Test
+        @DisplayName("Should update a task without loading it first")
+        void whenPutTask_thenExecuteTwoStatements() throws Exception {
+                mockMvc.perform(put("/todo-list/{id}", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(TASK_JSON))
+                                .andExpect(status().isOk());
+
+                assertEquals(2, statistics.getPrepareStatementCount(),
+                                "Updating a task did not execute the update and the version read only");
+        }
+
+        @Test
+        @DisplayName("Should update a task with a single statement when If-Match carries its version")
+        void whenPutTaskWithIfMatch_thenExecuteOneStatement() throws Exception {
+                mockMvc.perform(put("/todo-list/{id}", taskId)
+                                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(TASK_JSON))
+                                .andExpect(status().isOk());
+
+                assertEquals(1, statistics.getPrepareStatementCount(),
+                                "A conditional update did not execute exactly one statement");
+        }
+
+        @Test
+        @DisplayName("Should partially update a task with the update and a single read")
+        void whenPatchTask_thenExecuteTwoStatements() throws Exception {
+                mockMvc.perform(patch("/todo-list/{id}", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"done\":true}"))
+                                .andExpect(status().isOk());
+
+                assertEquals(2, statistics.getPrepareStatementCount(),
+                                "A partial update did not execute the update and the read only");
+        }
+
+        @Test
+        @DisplayName("Should delete a task with a single statement")
+        void whenDeleteTask_thenExecuteOneStatement() throws Exception {
+                mockMvc.perform(delete("/todo-list/{id}", taskId)).andExpect(status().isNoContent());
+
+                assertEquals(1, statistics.getPrepareStatementCount(),
+                                "Deleting a task did not execute exactly one statement");
+        }
+
+        @Test
+        @DisplayName("Should answer 404 for a missing task with the delete statement and one archive lookup")
+        void whenDeleteMissingTask_thenExecuteTheDeleteAndTheArchiveLookup() throws Exception {
+                mockMvc.perform(delete("/todo-list/{id}", taskId + 1000)).andExpect(status().isNotFound());
+
+                assertEquals(2, statistics.getPrepareStatementCount(),
+                                "Deleting a missing task did not execute the delete and the archive lookup only");
+        }
+
+}
@@ -1,19 +1,33 @@
 package br.com.todo.todo.controllers;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,16 +36,42 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
+import br.com.todo.todo.dto.TaskChangesDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskCursor;
 import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.dto.TaskImportErrorDTO;
+import br.com.todo.todo.dto.TaskImportResultDTO;
+import br.com.todo.todo.dto.TaskPriorityCountDTO;
+import br.com.todo.todo.dto.TaskSummaryDTO;
+import br.com.todo.todo.exceptions.GoneException;
 import br.com.todo.todo.exceptions.NotFoundException;
+import br.com.todo.todo.exceptions.PreconditionFailedException;
+import br.com.todo.todo.services.TaskChangeTracker;
+import br.com.todo.todo.services.TaskChangesService;
+import br.com.todo.todo.services.TaskEventStream;
+import br.com.todo.todo.services.TaskExportService;
+import br.com.todo.todo.services.TaskImportService;
+import br.com.todo.todo.services.TaskSearchService;
 import br.com.todo.todo.services.TaskServices;
+import br.com.todo.todo.services.TaskSummaryService;
+import br.com.todo.todo.services.TaskWriteCoalescer;
 
 @WebMvcTest(TaskController.class)
+@Import(SimpleMeterRegistry.class)
 public class TaskControllerUnitTest {
 
     @Autowired
@@ -40,6 +80,30 @@ public class TaskControllerUnitTest {
     @MockBean
     private TaskServices taskServices;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
+    @MockBean
+    private TaskSummaryService taskSummaryService;
+
+    @MockBean
+    private TaskSearchService taskSearchService;
+
+    @MockBean
+    private TaskChangeTracker taskChangeTracker;
+
+    @MockBean
+    private TaskEventStream taskEventStream;
+
+    @MockBean
+    private TaskWriteCoalescer taskWriteCoalescer;
+
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @MockBean
+    private TaskChangesService taskChangesService;
+
     private Long validId;
     private Long invalidId;
     private TaskDTO validTaskDTO;
@@ -52,6 +116,7 @@ public class TaskControllerUnitTest {
         invalidId = 999L;
         validTaskDTO = new TaskDTO(validId, "Task name", "Task description", 2, false);
         objectMapper = new ObjectMapper();
+        when(taskWriteCoalescer.overlay(any())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     @Nested
@@ -68,107 +133,706 @@ public class TaskControllerUnitTest {
             mockMvc.perform(get("/todo-list")
                     .contentType(MediaType.APPLICATION_JSON))
                     // Assert
-                    .andExpect(status().isOk());
+                    .andExpect(status().isOk());
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllTasks();
+
+        }
+
+        @Test
+        public void whenPageIsFull_thenReturnsNextCursorHeader() throws Exception {
+            // Arrange
+
+            TaskDTO otherTaskDTO = new TaskDTO(4L, "Other task name", "Other task description", 3, false);
+            when(taskServices.getAllTasks(2, null)).thenReturn(Arrays.asList(validTaskDTO, otherTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list").param("limit", "2")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER, "3:4"));
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllTasks(2, null);
+
+        }
+
+        @Test
+        public void whenPageIsNotFull_thenReturnsNoNextCursorHeader() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllTasks(2, new TaskCursor(3, 4L))).thenReturn(Arrays.asList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list").param("limit", "2").param("after", "3:4")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist(TaskController.NEXT_CURSOR_HEADER));
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllTasks(2, new TaskCursor(3, 4L));
+
+        }
+
+        @Test
+        public void whenInvalidCursor_thenReturns400() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list").param("limit", "2").param("after", "invalid")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.statusCode").value(400))
+                    .andExpect(jsonPath("$.message").value("Invalid cursor"));
+
+            // Verify
+
+            verify(taskServices, never()).getAllTasks(anyInt(), any());
+
+        }
+
+        @Test
+        public void whenInvalidLimit_thenReturns400() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list").param("limit", "0")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.statusCode").value(400))
+                    .andExpect(jsonPath("$.errors.limit").exists());
+
+            // Verify
+
+            verify(taskServices, never()).getAllTasks(anyInt(), any());
+
+        }
+
+    }
+
+    @Nested
+    class SparseFieldsTests {
+
+        @Test
+        public void whenGetTasksWithFields_thenReturns200WithOnlyThoseFields() throws Exception {
+            // Arrange
+
+            when(taskServices.getTasks(TaskFields.parse("name,done"), false, 1, null))
+                    .thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending").param("fields", "name,done").param("limit", "1"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(TaskController.NEXT_CURSOR_HEADER, "2:1"))
+                    .andExpect(jsonPath("$[0].name").value("Task name"))
+                    .andExpect(jsonPath("$[0].done").value(false))
+                    .andExpect(jsonPath("$[0].id").doesNotExist())
+                    .andExpect(jsonPath("$[0].description").doesNotExist())
+                    .andExpect(jsonPath("$[0].priority").doesNotExist());
+
+            // Verify
+
+            verify(taskServices, never()).getAllPendingTasks(anyInt(), any());
+
+        }
+
+        @Test
+        public void whenFieldIsUnknown_thenReturns400() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list").param("fields", "name,owner"))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid fields"));
+
+            // Verify
+
+            verify(taskServices, never()).getTasks(any(), any(), any(), any());
+
+        }
+
+    }
+
+    @Nested
+    class ContentNegotiationTests {
+
+        @Test
+        public void whenAcceptCbor_thenReturnsCbor() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllTasks()).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            MvcResult result = mockMvc.perform(get("/todo-list").accept("application/cbor"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/cbor"))
+                    .andReturn();
+
+            assertEquals(Collections.singletonList(validTaskDTO), Arrays.asList(new CBORMapper()
+                    .readValue(result.getResponse().getContentAsByteArray(), TaskDTO[].class)));
+
+        }
+
+        @Test
+        public void whenAcceptSmile_thenReturnsSmile() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllTasks()).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list").accept("application/x-jackson-smile"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"));
+
+        }
+
+    }
+
+    @Nested
+    class GetTaskByIdTests {
+
+        @Test
+        public void whenValidId_thenReturns200() throws Exception {
+            // Arrange
+
+            when(taskServices.getTaskById(validId)).thenReturn(validTaskDTO);
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/{id}", validId)
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk());
+
+            // Verify
+
+            verify(taskServices, times(1)).getTaskById(validId);
+
+        }
+
+        @Test
+        public void whenInvalidId_thenReturns404() throws Exception {
+            // Arrange
+
+            when(taskServices.getTaskById(invalidId)).thenThrow(new NotFoundException("Task not found",
+                    "It was not possible to find a task with the specified id, try another one."));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/{id}", invalidId)
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.statusCode").value(404))
+                    .andExpect(jsonPath("$.message").value("Task not found"))
+                    .andExpect(jsonPath("$.description")
+                            .value("It was not possible to find a task with the specified id, try another one."));
+
+            // Verify
+
+            verify(taskServices, times(1)).getTaskById(invalidId);
+
+        }
+
+    }
+
+    @Nested
+    class ETagTests {
+
+        @Test
+        public void whenGetVersionedTask_thenReturnsETag() throws Exception {
+            // Arrange
+
+            TaskDTO versionedTaskDTO = new TaskDTO(validId, "Task name", "Task description", 2, false, 3L);
+
+            when(taskServices.getTaskById(validId)).thenReturn(versionedTaskDTO);
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/{id}", validId)
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"3\""))
+                    .andExpect(jsonPath("$.version").doesNotExist());
+
+            // Verify
+
+            verify(taskServices, times(1)).getTaskById(validId);
+
+        }
+
+        @Test
+        public void whenPutWithIfMatch_thenUpdatesTheExpectedVersion() throws Exception {
+            // Arrange
+
+            TaskDTO validTaskDTOWithoutId = new TaskDTO(null, "Task name", "Task description", 2, false);
+            String validRequest = objectMapper.writeValueAsString(validTaskDTOWithoutId);
+
+            when(taskServices.putUpdateTask(validTaskDTOWithoutId, validId, 3L))
+                    .thenReturn(new TaskDTO(validId, "Task name", "Task description", 2, false, 4L));
+
+            // Act
+
+            mockMvc.perform(put("/todo-list/{id}", validId)
+                    .header("If-Match", "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(validRequest))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"4\""));
+
+            // Verify
+
+            verify(taskServices, times(1)).putUpdateTask(validTaskDTOWithoutId, validId, 3L);
+            verify(taskServices, never()).putUpdateTask(validTaskDTOWithoutId, validId);
+
+        }
+
+        @Test
+        public void whenPatchWithStaleIfMatch_thenReturns412() throws Exception {
+            // Arrange
+
+            TaskDTO partialUpdate = new TaskDTO(null, null, null, null, true);
+            String validRequest = objectMapper.writeValueAsString(partialUpdate);
+
+            when(taskServices.patchPartialUpdateTask(partialUpdate, validId, 2L))
+                    .thenThrow(new PreconditionFailedException("Task was modified",
+                            "The task has been changed since it was read, read it again and retry with the new ETag."));
+
+            // Act
+
+            mockMvc.perform(patch("/todo-list/{id}", validId)
+                    .header("If-Match", "\"2\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(validRequest))
+                    // Assert
+                    .andExpect(status().isPreconditionFailed())
+                    .andExpect(jsonPath("$.statusCode").value(412))
+                    .andExpect(jsonPath("$.message").value("Task was modified"));
+
+            // Verify
+
+            verify(taskServices, times(1)).patchPartialUpdateTask(partialUpdate, validId, 2L);
+
+        }
+
+    }
+
+    @Nested
+    class ListETagTests {
+
+        @BeforeEach
+        public void setUp() {
+            when(taskChangeTracker.isEnabled()).thenReturn(true);
+            when(taskChangeTracker.getVersion()).thenReturn("abc.7");
+        }
+
+        @Test
+        public void whenGetAllTasks_thenReturnsWeakETag() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllTasks()).thenReturn(Collections.emptyList());
+
+            // Act
+
+            mockMvc.perform(get("/todo-list"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"abc.7-all\""));
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllTasks();
+
+        }
+
+        @Test
+        public void whenIfNoneMatchIsCurrent_thenReturns304WithoutReadingTasks() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending").param("limit", "2").param("after", "3:4")
+                    .header("If-None-Match", "W/\"abc.7-pending.2.3:4\""))
+                    // Assert
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            // Verify
+
+            verify(taskServices, never()).getAllPendingTasks(anyInt(), any());
+
+        }
+
+        @Test
+        public void whenIfNoneMatchIsStale_thenReturns200() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllDoneTasks()).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/done")
+                    .header("If-None-Match", "W/\"abc.6-done\""))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "W/\"abc.7-done\""));
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllDoneTasks();
+
+        }
+
+        @Test
+        public void whenListETagsDisabled_thenReturns200WithoutETag() throws Exception {
+            // Arrange
+
+            when(taskChangeTracker.isEnabled()).thenReturn(false);
+            when(taskServices.getAllPendingTasks()).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending")
+                    .header("If-None-Match", "W/\"abc.7-pending\""))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("ETag"));
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllPendingTasks();
+            verify(taskChangeTracker, never()).getVersion();
+
+        }
+
+    }
+
+    @Nested
+    class GetAllDoneTasksTests {
+
+        @Test
+        public void whenGetAllDoneTasks_thenReturns200() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllDoneTasks()).thenReturn(Collections.emptyList());
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/done")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk());
+
+            // verify
+
+            verify(taskServices, times(1)).getAllDoneTasks();
+
+        }
+
+    }
+
+    @Nested
+    class GetAllPendingTasksTests {
+
+        @Test
+        public void whenGetAllPendingTasks_thenReturns200() throws Exception {
+            // Arrange
+
+            when(taskServices.getAllPendingTasks()).thenReturn(Collections.emptyList());
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending")
+                    .contentType(MediaType.APPLICATION_JSON))
+                    // Assert
+                    .andExpect(status().isOk());
+
+            // Verify
+
+            verify(taskServices, times(1)).getAllPendingTasks();
+
+        }
+
+    }
+
+    @Nested
+    class GetSummaryTests {
+
+        @Test
+        public void whenGetSummary_thenReturns200WithCounts() throws Exception {
+            // Arrange
+
+            when(taskSummaryService.getSummary()).thenReturn(new TaskSummaryDTO(5L, 2L, 3L,
+                    Arrays.asList(new TaskPriorityCountDTO(1, 4L, 2L, 2L), new TaskPriorityCountDTO(2, 1L, 0L, 1L))));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/summary"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.total").value(5))
+                    .andExpect(jsonPath("$.done").value(2))
+                    .andExpect(jsonPath("$.pending").value(3))
+                    .andExpect(jsonPath("$.priorities[0].priority").value(1))
+                    .andExpect(jsonPath("$.priorities[0].pending").value(2))
+                    .andExpect(jsonPath("$.priorities[1].total").value(1));
+
+            // Verify
+
+            verify(taskSummaryService, times(1)).getSummary();
+
+        }
+
+    }
+
+    @Nested
+    class GetNextPendingTasksTests {
+
+        @Test
+        public void whenGetNextPendingTasks_thenReturns200WithTheTopTasks() throws Exception {
+            // Arrange
+
+            when(taskServices.getNextPendingTasks(3)).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending/next").param("n", "3"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(validId));
+
+            // Verify
+
+            verify(taskServices, times(1)).getNextPendingTasks(3);
+
+        }
+
+        @Test
+        public void whenNIsTooLarge_thenReturns400() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list/pending/next").param("n", "1001"))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.n").exists());
+
+            // Verify
+
+            verify(taskServices, never()).getNextPendingTasks(anyInt());
+
+        }
+
+    }
+
+    @Nested
+    class SearchTasksTests {
+
+        @Test
+        public void whenSearchTasks_thenReturns200WithTheRankedPage() throws Exception {
+            // Arrange
+
+            when(taskSearchService.search("task name", 1, 10)).thenReturn(Collections.singletonList(validTaskDTO));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/search").param("q", "task name").param("page", "1").param("size", "10"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(validId));
+
+            // Verify
+
+            verify(taskSearchService, times(1)).search("task name", 1, 10);
+
+        }
+
+        @Test
+        public void whenQueryIsBlank_thenReturns400() throws Exception {
+            // Act
+
+            mockMvc.perform(get("/todo-list/search").param("q", " "))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors.q").exists());
+
+            // Verify
+
+            verify(taskSearchService, never()).search(any(), anyInt(), anyInt());
+
+        }
+
+    }
+
+    @Nested
+    class StreamEventsTests {
+
+        @Test
+        public void whenStreamEvents_thenStartsTheEventStream() throws Exception {
+            // Arrange
+
+            when(taskEventStream.subscribe(null)).thenReturn(new SseEmitter());
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/events").accept(MediaType.TEXT_EVENT_STREAM))
+                    // Assert
+                    .andExpect(request().asyncStarted());
+
+            // Verify
+
+            verify(taskEventStream, times(1)).subscribe(null);
+
+        }
+
+        @Test
+        public void whenStreamEventsWithLastEventId_thenResumesFromIt() throws Exception {
+            // Arrange
+
+            when(taskEventStream.subscribe("lz3k9q1a.42")).thenReturn(new SseEmitter());
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/events").header("Last-Event-ID", "lz3k9q1a.42"))
+                    // Assert
+                    .andExpect(request().asyncStarted());
+
+            // Verify
+
+            verify(taskEventStream, times(1)).subscribe("lz3k9q1a.42");
+
+        }
+
+    }
+
+    @Nested
+    class GetChangesTests {
+
+        @Test
+        public void whenGetChangesSinceToken_thenReturns200WithChangedAndDeletedTasks() throws Exception {
+            // Arrange
+
+            TaskChangesToken since = TaskChangesToken.parse("1760000000000000:7:1759990000000000");
+            when(taskChangesService.getChanges(since, 1000)).thenReturn(new TaskChangesDTO(
+                    Collections.singletonList(validTaskDTO), Collections.singletonList(9L),
+                    "1760000005000000:0:1760000005000000", false));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/changes").param("since", "1760000000000000:7:1759990000000000"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.changed[0].id").value(validId))
+                    .andExpect(jsonPath("$.deleted[0]").value(9))
+                    .andExpect(jsonPath("$.token").value("1760000005000000:0:1760000005000000"))
+                    .andExpect(jsonPath("$.hasMore").value(false));
 
             // Verify
 
-            verify(taskServices, times(1)).getAllTasks();
+            verify(taskChangesService, times(1)).getChanges(since, 1000);
 
         }
 
-    }
-
-    @Nested
-    class GetTaskByIdTests {
-
         @Test
-        public void whenValidId_thenReturns200() throws Exception {
-            // Arrange
-
-            when(taskServices.getTaskById(validId)).thenReturn(validTaskDTO);
-
+        public void whenTokenIsInvalid_thenReturns400() throws Exception {
             // Act
 
-            mockMvc.perform(get("/todo-list/{id}", validId)
-                    .contentType(MediaType.APPLICATION_JSON))
+            mockMvc.perform(get("/todo-list/changes").param("since", "yesterday"))
                     // Assert
-                    .andExpect(status().isOk());
+                    .andExpect(status().isBadRequest());
 
             // Verify
 
-            verify(taskServices, times(1)).getTaskById(validId);
+            verify(taskChangesService, never()).getChanges(any(), anyInt());
 
         }
 
         @Test
-        public void whenInvalidId_thenReturns404() throws Exception {
+        public void whenTokenIsOlderThanTheRetention_thenReturns410() throws Exception {
             // Arrange
 
-            when(taskServices.getTaskById(invalidId)).thenThrow(new NotFoundException("Task not found",
-                    "It was not possible to find a task with the specified id, try another one."));
+            Instant expired = Instant.now().minus(Duration.ofDays(31)).truncatedTo(ChronoUnit.MICROS);
+            TaskChangesToken since = new TaskChangesToken(expired, 1L);
+            when(taskChangesService.getChanges(since, 1000))
+                    .thenThrow(new GoneException("Sync token expired", "Sync again without the since parameter."));
 
             // Act
 
-            mockMvc.perform(get("/todo-list/{id}", invalidId)
-                    .contentType(MediaType.APPLICATION_JSON))
+            mockMvc.perform(get("/todo-list/changes").param("since", since.toString()))
                     // Assert
-                    .andExpect(status().isNotFound())
-                    .andExpect(jsonPath("$.statusCode").value(404))
-                    .andExpect(jsonPath("$.message").value("Task not found"))
-                    .andExpect(jsonPath("$.description")
-                            .value("It was not possible to find a task with the specified id, try another one."));
-
-            // Verify
-
-            verify(taskServices, times(1)).getTaskById(invalidId);
+                    .andExpect(status().isGone())
+                    .andExpect(jsonPath("$.message").value("Sync token expired"));
 
         }
 
     }
 
     @Nested
-    class GetAllDoneTasksTests {
+    class ExportTasksTests {
 
         @Test
-        public void whenGetAllDoneTasks_thenReturns200() throws Exception {
-            // Arrange
-
-            when(taskServices.getAllDoneTasks()).thenReturn(Collections.emptyList());
-
+        public void whenExportCsv_thenStreamsCsv() throws Exception {
             // Act
 
-            mockMvc.perform(get("/todo-list/done")
-                    .contentType(MediaType.APPLICATION_JSON))
+            MvcResult result = mockMvc.perform(get("/todo-list/export").param("format", "csv"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(result))
                     // Assert
-                    .andExpect(status().isOk());
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("text/csv"));
 
-            // verify
+            // Verify
 
-            verify(taskServices, times(1)).getAllDoneTasks();
+            verify(taskExportService, times(1)).exportTasks(eq(TaskExportService.Format.CSV), any());
 
         }
 
-    }
+        @Test
+        public void whenAcceptSmileWithoutFormat_thenStreamsSmile() throws Exception {
+            // Act
 
-    @Nested
-    class GetAllPendingTasksTests {
+            MvcResult result = mockMvc.perform(get("/todo-list/export").accept("application/x-jackson-smile"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
 
-        @Test
-        public void whenGetAllPendingTasks_thenReturns200() throws Exception {
-            // Arrange
+            mockMvc.perform(asyncDispatch(result))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith("application/x-jackson-smile"));
 
-            when(taskServices.getAllPendingTasks()).thenReturn(Collections.emptyList());
+            // Verify
+
+            verify(taskExportService, times(1)).exportTasks(eq(TaskExportService.Format.SMILE), any());
+
+        }
 
+        @Test
+        public void whenInvalidFormat_thenReturns400() throws Exception {
             // Act
 
-            mockMvc.perform(get("/todo-list/pending")
-                    .contentType(MediaType.APPLICATION_JSON))
+            mockMvc.perform(get("/todo-list/export").param("format", "xml"))
                     // Assert
-                    .andExpect(status().isOk());
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Invalid export format"));
 
             // Verify
 
-            verify(taskServices, times(1)).getAllPendingTasks();
+            verify(taskExportService, never()).exportTasks(any(), any());
 
         }
 
@@ -229,6 +893,106 @@ public class TaskControllerUnitTest {
 
     }
 
+    @Nested
+    class PostCreateTasksTests {
+
+        @Test
+        public void whenValidTasks_thenReturns201WithTheCreatedIds() throws Exception {
+            // Arrange
+
+            TaskDTO validTaskDTOWithoutId = new TaskDTO(null, "Task name", "Task description", 2, false);
+            String validRequest = objectMapper.writeValueAsString(Arrays.asList(validTaskDTOWithoutId));
+
+            when(taskServices.postCreateTasks(Arrays.asList(validTaskDTOWithoutId))).thenReturn(Arrays.asList(validId));
+
+            // Act
+
+            mockMvc.perform(post("/todo-list/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(validRequest))
+                    // Assert
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$[0]").value(validId));
+
+            // Verify
+
+            verify(taskServices, times(1)).postCreateTasks(Arrays.asList(validTaskDTOWithoutId));
+
+        }
+
+        @Test
+        public void whenInvalidTask_thenReturns400() throws Exception {
+            // Arrange
+
+            TaskDTO validTaskDTOWithoutId = new TaskDTO(null, "Task name", "Task description", 2, false);
+            TaskDTO invalidTaskDTO = new TaskDTO(null, "", "Task description", 2, false);
+            String invalidRequest = objectMapper
+                    .writeValueAsString(Arrays.asList(validTaskDTOWithoutId, invalidTaskDTO));
+
+            // Act
+
+            mockMvc.perform(post("/todo-list/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(invalidRequest))
+                    // Assert
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errors['taskDTOs[1].name']")
+                            .value("Name must be filled with characters"));
+
+            // Verify
+
+            verify(taskServices, never()).postCreateTasks(any());
+
+        }
+
+    }
+
+    @Nested
+    class ImportTasksTests {
+
+        @Test
+        public void whenImportCsv_thenReturns200WithTheReport() throws Exception {
+            // Arrange
+
+            when(taskImportService.importTasks(any(), any())).thenReturn(new TaskImportResultDTO(1L, 1L,
+                    Collections.singletonList(new TaskImportErrorDTO(3L, "priority: must be an integer"))));
+
+            // Act
+
+            mockMvc.perform(post("/todo-list/import")
+                    .contentType("text/csv")
+                    .content("name,description,priority,done\nTask name,Task description,1,false\n"))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(1))
+                    .andExpect(jsonPath("$.rejected").value(1))
+                    .andExpect(jsonPath("$.errors[0].line").value(3));
+
+            // Verify
+
+            verify(taskImportService, times(1))
+                    .importTasks(argThat(type -> MediaType.parseMediaType("text/csv").includes(type)), any());
+
+        }
+
+        @Test
+        public void whenContentTypeIsNotSupported_thenReturns415() throws Exception {
+            // Act
+
+            mockMvc.perform(post("/todo-list/import")
+                    .contentType(MediaType.APPLICATION_XML)
+                    .content("<tasks/>"))
+                    // Assert
+                    .andExpect(status().isUnsupportedMediaType());
+
+            // Verify
+
+            verify(taskImportService, never()).importTasks(any(), any());
+
+        }
+
+    }
+
     @Nested
     class PutUpdateTaskTests {
 
@@ -398,6 +1162,125 @@ public class TaskControllerUnitTest {
 
     }
 
+    @Nested
+    class CoalescedPatchTests {
+
+        @Test
+        public void whenWriteCoalescingIsEnabled_thenReturns202WithTheMergedTaskAndItsNextETag() throws Exception {
+            // Arrange
+
+            TaskDTO changes = new TaskDTO(null, null, null, null, true);
+            TaskDTO mergedTask = new TaskDTO(validId, "Task name", "Task description", 2, true, 4L);
+
+            when(taskWriteCoalescer.isEnabled()).thenReturn(true);
+            when(taskServices.getTaskById(validId)).thenReturn(validTaskDTO);
+            when(taskWriteCoalescer.accept(validTaskDTO, changes)).thenReturn(mergedTask);
+
+            // Act
+
+            mockMvc.perform(patch("/todo-list/{id}", validId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(changes)))
+                    // Assert
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string("ETag", "\"4\""))
+                    .andExpect(jsonPath("$.done").value(true));
+
+            // Verify
+
+            verify(taskWriteCoalescer, times(1)).accept(validTaskDTO, changes);
+            verify(taskServices, never()).patchPartialUpdateTask(any(), any());
+
+        }
+
+        @Test
+        public void whenWriteCoalescingIsEnabledAndTaskNotFound_thenReturns404() throws Exception {
+            // Arrange
+
+            when(taskWriteCoalescer.isEnabled()).thenReturn(true);
+            when(taskServices.getTaskById(invalidId)).thenThrow(new NotFoundException("Task not found",
+                    "It was not possible to find a task with the specified id, try another one."));
+
+            // Act
+
+            mockMvc.perform(patch("/todo-list/{id}", invalidId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"done\":true}"))
+                    // Assert
+                    .andExpect(status().isNotFound());
+
+            // Verify
+
+            verify(taskWriteCoalescer, never()).accept(any(), any());
+
+        }
+
+        @Test
+        public void whenGetTaskWithPendingChanges_thenReturnsThemWithTheirNextETag() throws Exception {
+            // Arrange
+
+            TaskDTO storedTask = new TaskDTO(validId, "Task name", "Task description", 2, false, 3L);
+            TaskDTO mergedTask = new TaskDTO(validId, "Task name", "Task description", 2, true, 4L);
+
+            when(taskServices.getTaskById(validId)).thenReturn(storedTask);
+            when(taskWriteCoalescer.overlay(storedTask)).thenReturn(mergedTask);
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/{id}", validId))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"4\""))
+                    .andExpect(jsonPath("$.done").value(true));
+
+        }
+
+        @Test
+        public void whenDeleteTaskWithPendingChanges_thenFlushesThemFirst() throws Exception {
+            // Act
+
+            mockMvc.perform(delete("/todo-list/{id}", validId))
+                    // Assert
+                    .andExpect(status().isNoContent());
+
+            // Verify
+
+            verify(taskWriteCoalescer, times(1)).flushIfPending(validId);
+            verify(taskServices, times(1)).deleteTask(validId);
+
+        }
+
+    }
+
+    @Nested
+    class PatchBulkUpdateTasksTests {
+
+        @Test
+        public void whenValidSelection_thenReturns200WithTheUpdatedCount() throws Exception {
+            // Arrange
+
+            TaskDTO changes = new TaskDTO(null, null, null, null, true);
+            String validRequest = objectMapper.writeValueAsString(changes);
+
+            when(taskServices.patchBulkUpdateTasks(changes, null, false, 3)).thenReturn(7);
+
+            // Act
+
+            mockMvc.perform(patch("/todo-list").param("done", "false").param("maxPriority", "3")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(validRequest))
+                    // Assert
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated").value(7));
+
+            // Verify
+
+            verify(taskServices, times(1)).patchBulkUpdateTasks(changes, null, false, 3);
+
+        }
+
+    }
+
     @Nested
     class DeleteTaskTests {
 
@@ -442,5 +1325,74 @@ public class TaskControllerUnitTest {
 
         }
 
+        @Test
+        public void whenTaskArchived_thenReturns410() throws Exception {
+            // Arrange
+
+            doThrow(new GoneException("Task was archived",
+                    "The task was moved to the archive and can only be read, create a new task instead."))
+                    .when(taskServices)
+                    .deleteTask(validId);
+
+            // Act
+
+            mockMvc.perform(delete("/todo-list/{id}", validId))
+                    // Assert
+                    .andExpect(status().isGone())
+                    .andExpect(jsonPath("$.statusCode").value(410))
+                    .andExpect(jsonPath("$.message").value("Task was archived"));
+
+            // Verify
+
+            verify(taskServices, times(1)).deleteTask(validId);
+
+        }
+
+    }
+
+    @Nested
+    class ErrorMetricsTests {
+
+        @Autowired
+        private MeterRegistry registry;
+
+        @Test
+        public void whenTaskNotFound_thenIncrementsNotFoundCounter() throws Exception {
+            // Arrange
+
+            double before = registry.get("todo.tasks.not_found").counter().count();
+            when(taskServices.getTaskById(invalidId))
+                    .thenThrow(new NotFoundException("Task not found", "Task not found"));
+
+            // Act
+
+            mockMvc.perform(get("/todo-list/{id}", invalidId))
+                    // Assert
+                    .andExpect(status().isNotFound());
+
+            assertEquals(before + 1, registry.get("todo.tasks.not_found").counter().count());
+
+        }
+
+        @Test
+        public void whenInvalidBody_thenIncrementsValidationFailuresCounter() throws Exception {
+            // Arrange
+
+            double before = registry.get("todo.validation.failures").tag("source", "body").counter().count();
+            String invalidJson = objectMapper.writeValueAsString(new TaskDTO(null, null, null, null, null));
+
+            // Act
+
+            mockMvc.perform(post("/todo-list")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(invalidJson))
+                    // Assert
+                    .andExpect(status().isBadRequest());
+
+            assertEquals(before + 1,
+                    registry.get("todo.validation.failures").tag("source", "body").counter().count());
+
+        }
+
     }
 }
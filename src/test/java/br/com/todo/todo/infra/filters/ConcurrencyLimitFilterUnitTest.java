@@ -0,0 +1,85 @@
+package br.com.todo.todo.infra.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ConcurrencyLimitFilterUnitTest {
+
+    private ConcurrencyLimitFilter filter;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        filter = new ConcurrencyLimitFilter(1, Duration.ofMillis(50), new ObjectMapper());
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should pass the request through and release the permit when a permit is available")
+    void whenPermitAvailable_thenPassTheRequestThrough() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/todo-list"), response,
+                (request, chainResponse) -> ((MockHttpServletResponse) chainResponse).setStatus(200));
+
+        assertEquals(HttpStatus.OK.value(), response.getStatus(), "The request was not passed through");
+        assertEquals(1, filter.getAvailablePermits(), "The permit was not released after the request");
+    }
+
+    @Test
+    @DisplayName("Should answer 503 when every permit is held longer than the acquire timeout")
+    void whenNoPermitAvailable_thenReturns503() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = executor.submit(() -> {
+            filter.doFilter(new MockHttpServletRequest("GET", "/todo-list"), new MockHttpServletResponse(),
+                    (request, response) -> {
+                        inFlight.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+            return null;
+        });
+        assertTrue(inFlight.await(5, TimeUnit.SECONDS), "The first request did not start");
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/todo-list"), response,
+                (request, chainResponse) -> ((MockHttpServletResponse) chainResponse).setStatus(200));
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), response.getStatus(),
+                "The request over the limit was not rejected");
+        assertEquals("1", response.getHeader("Retry-After"), "The Retry-After header was not set");
+        assertTrue(response.getContentAsString().contains("Too many requests in progress"),
+                "The error message was not written");
+        assertEquals(1, filter.getAvailablePermits(), "The permit was not released after the first request");
+    }
+
+}
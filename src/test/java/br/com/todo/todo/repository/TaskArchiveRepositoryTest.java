@@ -0,0 +1,92 @@
+package br.com.todo.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class TaskArchiveRepositoryTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private TaskRepository repository;
+
+        @Autowired
+        private TaskArchiveRepository archiveRepository;
+
+        private List<Long> ids;
+
+        @BeforeEach
+        public void setup() {
+                ids = new ArrayList<>();
+                for (int i = 1; i <= 4; i++) {
+                        Task task = entityManager.persist(new Task(new TaskDTO(null, "Task name " + i,
+                                        "Task description " + i, i, i % 2 == 0)));
+                        ids.add(task.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should select only the done tasks last changed before the cutoff, oldest first")
+        void whenFindArchivableIds_thenReturnDoneTasksBeforeCutoff() {
+                // Act
+
+                List<Long> archivable = repository.findArchivableIds(Instant.now().plus(1, ChronoUnit.DAYS),
+                                PageRequest.ofSize(10));
+                List<Long> recent = repository.findArchivableIds(Instant.now().minus(1, ChronoUnit.DAYS),
+                                PageRequest.ofSize(10));
+
+                // Assert
+
+                assertEquals(List.of(ids.get(1), ids.get(3)), archivable, "The done tasks were not selected");
+                assertEquals(List.of(), recent, "Tasks changed after the cutoff were selected");
+
+        }
+
+        @Test
+        @DisplayName("Should move the tasks to the archive and keep them readable with their version")
+        void whenArchiveAndDeleteTasks_thenReadThemFromTheArchive() {
+                // Arrange
+
+                List<Long> archivable = List.of(ids.get(1), ids.get(3));
+
+                // Act
+
+                int archived = archiveRepository.archiveAllByIds(archivable, Instant.now());
+                int deleted = repository.deleteTasksByIds(archivable);
+
+                // Assert
+
+                assertEquals(2, archived, "Not every task was copied to the archive");
+                assertEquals(2, deleted, "Not every archived task was deleted");
+                assertFalse(repository.existsById(ids.get(1)), "The archived task is still in the tasks table");
+                assertEquals(Optional.of(new TaskDTO(ids.get(1), "Task name 2", "Task description 2", 2, true, 0L)),
+                                archiveRepository.findDTOById(ids.get(1)), "The archived task cannot be read");
+                assertEquals(List.of(ids.get(3)), archiveRepository.findAllAfter(2, ids.get(1), PageRequest.ofSize(10))
+                                .stream().map(TaskDTO::id).toList(), "The archive does not page in priority order");
+
+        }
+
+}
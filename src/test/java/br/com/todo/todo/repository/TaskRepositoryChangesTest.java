@@ -0,0 +1,146 @@
+package br.com.todo.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import br.com.todo.todo.dto.TaskChangeDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class TaskRepositoryChangesTest {
+
+        private static final TaskChangesToken FIRST_TOKEN = new TaskChangesToken(Instant.EPOCH, 0L);
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private TaskRepository repository;
+
+        private List<Long> ids;
+
+        @BeforeEach
+        public void setup() {
+                ids = new ArrayList<>();
+                for (int i = 1; i <= 3; i++) {
+                        Task task = entityManager.persist(new Task(new TaskDTO(null, "Task name " + i,
+                                        "Task description " + i, i, false)));
+                        ids.add(task.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+        }
+
+        @Test
+        @DisplayName("Should keep a deleted task as a tombstone hidden from every other read")
+        void whenDeleteTask_thenLeaveATombstone() {
+                // Act
+
+                int deleted = repository.deleteTaskById(ids.get(0));
+                int deletedAgain = repository.deleteTaskById(ids.get(0));
+
+                // Assert
+
+                assertEquals(1, deleted, "The task was not deleted");
+                assertEquals(0, deletedAgain, "A tombstone was deleted again");
+                assertFalse(repository.findDTOById(ids.get(0)).isPresent(), "The deleted task can still be read");
+                assertFalse(repository.existsById(ids.get(0)), "The deleted task still exists");
+                assertEquals(2, repository.findAllByOrderByPriorityAscIdAsc().size(),
+                                "The deleted task is still listed");
+                assertEquals(0, repository.updateById(ids.get(0), "Task name", null, null, null),
+                                "The deleted task was updated");
+
+        }
+
+        @Test
+        @DisplayName("Should return the tombstones only after the first sync, page by page in updated_at and id order")
+        void whenFindChanges_thenReturnChangedTasksAndTombstonesInOrder() {
+                // Arrange
+
+                Instant until = Instant.now().plus(1, ChronoUnit.MINUTES);
+                repository.deleteTaskById(ids.get(0));
+                repository.updateById(ids.get(1), null, null, null, true);
+
+                // Act
+
+                List<TaskChangeDTO> firstSync = repository.findChanges(FIRST_TOKEN, false, until, 10);
+                List<TaskChangeDTO> changes = repository.findChanges(FIRST_TOKEN, true, until, 10);
+                List<TaskChangeDTO> firstPage = repository.findChanges(FIRST_TOKEN, true, until, 2);
+                TaskChangeDTO last = firstPage.get(firstPage.size() - 1);
+                List<TaskChangeDTO> secondPage = repository.findChanges(
+                                new TaskChangesToken(last.updatedAt(), last.task().id()), true, until, 2);
+
+                // Assert
+
+                assertEquals(2, firstSync.size(), "The first sync must only return the tasks that exist");
+                assertTrue(firstSync.stream().noneMatch(TaskChangeDTO::deleted), "The first sync returned a tombstone");
+                assertEquals(3, changes.size(), "The tombstone was not returned");
+                assertTrue(changes.stream().anyMatch(change -> change.task().id().equals(ids.get(0))
+                                && change.deleted()), "The deleted task is not marked as deleted");
+                assertTrue(changes.stream().anyMatch(change -> change.task().id().equals(ids.get(1))
+                                && !change.deleted() && change.task().done()), "The updated task was not returned");
+                List<TaskChangeDTO> pages = new ArrayList<>(firstPage);
+                pages.addAll(secondPage);
+                assertEquals(changes, pages, "Reading page by page does not return the same changes in order");
+
+        }
+
+        @Test
+        @DisplayName("Should stamp the inserted tasks with the time of the data base")
+        void whenInsertTask_thenStampItWithTheDataBaseTime() {
+                // Act
+
+                List<TaskChangeDTO> changes = repository.findChanges(FIRST_TOKEN, false,
+                                Instant.now().plus(1, ChronoUnit.DAYS), 10);
+                Instant now = repository.currentTimestamp();
+
+                // Assert
+
+                assertEquals(3, changes.size(), "An inserted task was not stamped");
+                changes.forEach(change -> {
+                        assertNotNull(change.updatedAt(), "The inserted task has no update time");
+                        assertFalse(change.updatedAt().isAfter(now), "The inserted task was stamped by another clock");
+                });
+
+        }
+
+        @Test
+        @DisplayName("Should purge only the tombstones deleted before the cutoff")
+        void whenPurgeTombstones_thenRemoveOldTombstonesOnly() {
+                // Arrange
+
+                repository.deleteTaskById(ids.get(0));
+
+                // Act
+
+                int notYet = repository.purgeTombstones(Instant.now().minus(1, ChronoUnit.DAYS), 10);
+                int purged = repository.purgeTombstones(Instant.now().plus(1, ChronoUnit.DAYS), 10);
+
+                // Assert
+
+                assertEquals(0, notYet, "A recent tombstone was purged");
+                assertEquals(1, purged, "The old tombstone was not purged");
+                assertTrue(repository.findChanges(FIRST_TOKEN, true, Instant.now().plus(1, ChronoUnit.DAYS), 10)
+                                .stream().noneMatch(TaskChangeDTO::deleted), "The tombstone is still there");
+
+        }
+
+}
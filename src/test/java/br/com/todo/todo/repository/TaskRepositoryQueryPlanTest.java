@@ -0,0 +1,117 @@
+package br.com.todo.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.models.Task;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.todo.todo.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class TaskRepositoryQueryPlanTest {
+
+        private static final String DONE_PRIORITY_ID_INDEX = "idx_tasks_done_priority_id";
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private TaskRepository repository;
+
+        @BeforeEach
+        public void setup() {
+                for (int i = 1; i <= 50; i++) {
+                        entityManager.persist(new Task(
+                                        new TaskDTO(null, "Task name " + i, "Task description " + i, i % 5 + 1,
+                                                        i % 2 == 0)));
+                }
+                entityManager.flush();
+                entityManager.clear();
+                RecordingStatementInspector.STATEMENTS.clear();
+        }
+
+        @Test
+        @DisplayName("Should read the pending tasks through the done, priority, id index")
+        void whenListPendingTasks_thenUseTheDonePriorityIdIndex() {
+                // Act
+
+                repository.findByDoneFalseOrderByPriorityAscIdAsc();
+                String plan = explain(bind(lastStatement()));
+
+                // Assert
+
+                assertTrue(plan.toLowerCase(Locale.ROOT).contains(DONE_PRIORITY_ID_INDEX),
+                                "The pending tasks query does not use the " + DONE_PRIORITY_ID_INDEX + " index: "
+                                                + plan);
+
+        }
+
+        @Test
+        @DisplayName("Should read the done tasks through the done, priority, id index")
+        void whenListDoneTasks_thenUseTheDonePriorityIdIndex() {
+                // Act
+
+                repository.findByDoneTrueOrderByPriorityAscIdAsc();
+                String plan = explain(bind(lastStatement()));
+
+                // Assert
+
+                assertTrue(plan.toLowerCase(Locale.ROOT).contains(DONE_PRIORITY_ID_INDEX),
+                                "The done tasks query does not use the " + DONE_PRIORITY_ID_INDEX + " index: "
+                                                + plan);
+
+        }
+
+        @Test
+        @DisplayName("Should read the next pending tasks through the done, priority, id index")
+        void whenReadNextPendingTasks_thenUseTheDonePriorityIdIndex() {
+                // Act
+
+                repository.findByDoneOrderByPriorityAscIdAsc(false, PageRequest.ofSize(10));
+                String plan = explain(bind(lastStatement(), "FALSE", "10"));
+
+                // Assert
+
+                assertTrue(plan.toLowerCase(Locale.ROOT).contains(DONE_PRIORITY_ID_INDEX),
+                                "The next pending tasks query does not use the " + DONE_PRIORITY_ID_INDEX
+                                                + " index: " + plan);
+
+        }
+
+        private static String lastStatement() {
+                List<String> statements = RecordingStatementInspector.STATEMENTS;
+                assertEquals(1, statements.size(), "The query did not run a single statement: " + statements);
+                return statements.get(0);
+        }
+
+        // Replaces the bind parameters of the generated statement, in order, with representative values
+        private static String bind(String sql, String... values) {
+                String[] parts = sql.split("\\?", -1);
+                assertEquals(values.length + 1, parts.length, "The statement does not take the expected parameters: "
+                                + sql);
+                StringBuilder bound = new StringBuilder(parts[0]);
+                for (int i = 0; i < values.length; i++) {
+                        bound.append(values[i]).append(parts[i + 1]);
+                }
+                return bound.toString();
+        }
+
+        private String explain(String sql) {
+                return entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult()
+                                .toString();
+        }
+
+}
@@ -0,0 +1,84 @@
+package br.com.todo.todo.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import br.com.todo.todo.dto.TaskCursor;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.models.Task;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.todo.todo.repository.RecordingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class TaskRepositorySparseFieldsTest {
+
+        @Autowired
+        private TestEntityManager entityManager;
+
+        @Autowired
+        private TaskRepository repository;
+
+        private List<Long> ids;
+
+        @BeforeEach
+        public void setup() {
+                ids = new ArrayList<>();
+                for (int i = 1; i <= 6; i++) {
+                        Task task = entityManager.persist(new Task(new TaskDTO(null, "Task name " + i,
+                                        "Task description " + i, i % 3 + 1, i % 2 == 0)));
+                        ids.add(task.getId());
+                }
+                entityManager.flush();
+                entityManager.clear();
+                RecordingStatementInspector.STATEMENTS.clear();
+        }
+
+        @Test
+        @DisplayName("Should not select the description column when it is not requested")
+        void whenFindTasksWithoutDescription_thenDescriptionColumnIsNotRead() {
+                // Act
+
+                List<TaskDTO> tasks = repository.findTasks(TaskFields.parse("name,done"), null, null, null);
+
+                // Assert
+
+                assertEquals(6, tasks.size(), "Not every task was read");
+                tasks.forEach(task -> assertNull(task.description(), "The description was read"));
+                assertEquals(1, RecordingStatementInspector.STATEMENTS.size(), "More than one statement was run");
+                assertFalse(RecordingStatementInspector.STATEMENTS.get(0).toLowerCase(Locale.ROOT)
+                                .contains("description"),
+                                "The description column was selected: " + RecordingStatementInspector.STATEMENTS);
+
+        }
+
+        @Test
+        @DisplayName("Should filter by done and continue after the cursor in priority and id order")
+        void whenFindTasksByDoneAfterCursor_thenReturnTheNextPage() {
+                // Act
+
+                List<TaskDTO> tasks = repository.findTasks(TaskFields.parse("name"), true,
+                                new TaskCursor(1, ids.get(5)), 2);
+
+                // Assert
+
+                assertEquals(List.of(new TaskDTO(ids.get(3), "Task name 4", null, 2, null),
+                                new TaskDTO(ids.get(1), "Task name 2", null, 3, null)), tasks,
+                                "The page is not the done tasks after the cursor");
+
+        }
+
+}
@@ -0,0 +1,147 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class InMemoryTaskSearchServiceUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        private InMemoryTaskSearchService searchService;
+
+        private TaskDTO taskDTO;
+        private TaskDTO taskDTO2;
+        private TaskDTO taskDTO3;
+
+        @BeforeEach
+        public void setup() {
+                taskDTO = new TaskDTO(1L, "Buy milk", "Go to the market and buy milk", 2, false);
+                taskDTO2 = new TaskDTO(2L, "Pay bills", "Pay the milk delivery and the water bills", 1, false);
+                taskDTO3 = new TaskDTO(3L, "Write report", "Quarterly report for the market team", 3, true);
+                searchService = new InMemoryTaskSearchService(repository);
+                when(repository.findAllByOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(taskDTO2, taskDTO,
+                                taskDTO3));
+                searchService.load();
+        }
+
+        @Test
+        @DisplayName("Should rank the tasks matching in the name before the tasks matching only in the description")
+        void whenSearchTerm_thenRankNameMatchesFirst() {
+                // Act
+
+                List<TaskDTO> tasksReturned = searchService.search("Milk", 0, 10);
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO, taskDTO2), tasksReturned,
+                                "The tasks returned are not ranked by where the term matches");
+
+        }
+
+        @Test
+        @DisplayName("Should only return the tasks matching every term of the query")
+        void whenSearchManyTerms_thenReturnTasksMatchingAllTerms() {
+                // Act
+
+                List<TaskDTO> tasksReturned = searchService.search("market report", 0, 10);
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO3), tasksReturned,
+                                "The tasks returned do not match every term of the query");
+
+        }
+
+        @Test
+        @DisplayName("Should page the ranked results")
+        void whenSearchSecondPage_thenSkipTheFirstPage() {
+                // Act
+
+                List<TaskDTO> tasksReturned = searchService.search("milk", 1, 1);
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO2), tasksReturned, "The second page is not the expected task");
+
+        }
+
+        @Test
+        @DisplayName("Should ignore an update event that is not newer than the indexed version")
+        void whenStaleUpdateArrives_thenKeepTheNewerDocument() {
+                // Arrange
+
+                TaskDTO newerTaskDTO = new TaskDTO(1L, "Buy bread", "Go to the bakery", 2, false, 3L);
+                TaskDTO staleTaskDTO = new TaskDTO(1L, "Buy milk", "Go to the market and buy milk", 2, false, 2L);
+
+                // Act
+
+                searchService.onTaskChanged(TaskChangedEvent.updated(newerTaskDTO));
+                searchService.onTaskChanged(TaskChangedEvent.updated(staleTaskDTO));
+
+                // Assert
+
+                assertEquals(Arrays.asList(newerTaskDTO), searchService.search("bread", 0, 10),
+                                "The stale update replaced the newer document");
+                assertEquals(Arrays.asList(taskDTO2), searchService.search("milk", 0, 10),
+                                "The stale update was indexed");
+
+        }
+
+        @Test
+        @DisplayName("Should not index again a deleted task on a late update event")
+        void whenUpdateArrivesAfterDelete_thenKeepTheTaskOutOfTheIndex() {
+                // Arrange
+
+                searchService.onTaskChanged(TaskChangedEvent.updated(
+                                new TaskDTO(3L, "Write report", "Quarterly report for the market team", 3, true, 2L)));
+
+                // Act
+
+                searchService.onTaskChanged(TaskChangedEvent.deleted(3L));
+                searchService.onTaskChanged(TaskChangedEvent.updated(
+                                new TaskDTO(3L, "Write report", "Quarterly report for the market team", 3, true, 1L)));
+
+                // Assert
+
+                assertTrue(searchService.search("report", 0, 10).isEmpty(),
+                                "The late update indexed the deleted task again");
+
+        }
+
+        @Test
+        @DisplayName("Should follow the task changes published by TaskServices")
+        void whenTaskChanged_thenUpdateTheIndex() {
+                // Act
+
+                searchService.onTaskChanged(TaskChangedEvent.updated(
+                                new TaskDTO(1L, "Buy bread", "Go to the bakery", 2, false)));
+                searchService.onTaskChanged(TaskChangedEvent.deleted(2L));
+
+                // Assert
+
+                assertTrue(searchService.search("milk", 0, 10).isEmpty(),
+                                "The index still returns the tasks that no longer match");
+                assertEquals(Arrays.asList(new TaskDTO(1L, "Buy bread", "Go to the bakery", 2, false)),
+                                searchService.search("bread", 0, 10),
+                                "The index does not return the updated task");
+
+        }
+
+}
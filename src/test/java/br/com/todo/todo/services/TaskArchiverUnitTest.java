@@ -0,0 +1,105 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskArchiveRepository;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskArchiverUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        @Mock
+        private TaskArchiveRepository archiveRepository;
+
+        @Mock
+        private JdbcTemplate jdbcTemplate;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        @Test
+        @DisplayName("Should move the archivable tasks in batches until a batch is not full")
+        void whenArchive_thenMoveTasksInBatches() {
+                // Arrange
+
+                TaskArchiver archiver = archiver(false);
+                when(repository.findArchivableIds(any(Instant.class), eq(PageRequest.ofSize(2))))
+                                .thenReturn(List.of(1L, 2L), List.of(3L));
+                when(repository.deleteTasksByIds(List.of(1L, 2L))).thenReturn(2);
+                when(repository.deleteTasksByIds(List.of(3L))).thenReturn(1);
+
+                // Act
+
+                int archived = archiver.archive();
+
+                // Assert
+
+                assertEquals(3, archived, "Not every archivable task was moved");
+
+                // Verify
+
+                verify(archiveRepository, times(1)).archiveAllByIds(eq(List.of(1L, 2L)), any(Instant.class));
+                verify(archiveRepository, times(1)).archiveAllByIds(eq(List.of(3L)), any(Instant.class));
+                verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.reset());
+                verify(jdbcTemplate, never()).execute(any(String.class));
+
+        }
+
+        @Test
+        @DisplayName("Should create the partition of the current month before moving tasks")
+        void whenArchivePartitioned_thenCreateTheMonthPartition() {
+                // Arrange
+
+                TaskArchiver archiver = archiver(true);
+                when(repository.findArchivableIds(any(Instant.class), eq(PageRequest.ofSize(2)))).thenReturn(List.of());
+
+                // Act
+
+                int archived = archiver.archive();
+
+                // Assert
+
+                assertEquals(0, archived, "Tasks were archived although none was archivable");
+
+                // Verify
+
+                verify(jdbcTemplate, times(1)).execute(startsWith("CREATE TABLE IF NOT EXISTS tasks_archive_"));
+                verify(archiveRepository, never()).archiveAllByIds(any(), any());
+                verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        }
+
+        private TaskArchiver archiver(boolean partitioned) {
+                return new TaskArchiver(repository, archiveRepository, jdbcTemplate, eventPublisher, transactionManager,
+                                true, Duration.ofDays(30), 2, partitioned);
+        }
+
+}
@@ -0,0 +1,56 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import br.com.todo.todo.events.TaskChangedEvent;
+
+public class TaskChangeTrackerUnitTest {
+
+        private TaskChangeTracker changeTracker;
+
+        @BeforeEach
+        public void setup() {
+                changeTracker = new TaskChangeTracker(true);
+        }
+
+        @Test
+        @DisplayName("Should keep the same version while no task changes")
+        void whenNoTaskChanges_thenVersionIsStable() {
+                // Act
+
+                String version = changeTracker.getVersion();
+
+                // Assert
+
+                assertEquals(version, changeTracker.getVersion(), "The version changed without any task change");
+
+        }
+
+        @Test
+        @DisplayName("Should change the version before and after a task change is committed")
+        void whenTaskChanges_thenVersionChangesOnEachPhase() {
+                // Arrange
+
+                String initialVersion = changeTracker.getVersion();
+
+                // Act
+
+                changeTracker.beforeCommit(TaskChangedEvent.deleted(1L));
+                String versionBeforeCommit = changeTracker.getVersion();
+                changeTracker.afterCommit(TaskChangedEvent.deleted(1L));
+
+                // Assert
+
+                assertNotEquals(initialVersion, versionBeforeCommit,
+                                "The version did not change before the commit");
+                assertNotEquals(versionBeforeCommit, changeTracker.getVersion(),
+                                "The version did not change after the commit");
+
+        }
+
+}
@@ -0,0 +1,178 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.todo.todo.dto.TaskChangeDTO;
+import br.com.todo.todo.dto.TaskChangesDTO;
+import br.com.todo.todo.dto.TaskChangesToken;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.exceptions.GoneException;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskChangesServiceUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        private TaskChangesService changesService;
+
+        private TaskDTO taskDTO;
+
+        @BeforeEach
+        public void setup() {
+                changesService = new TaskChangesService(repository, transactionManager, Duration.ofSeconds(5),
+                                Duration.ofDays(30), 2);
+                when(repository.currentTimestamp()).thenReturn(Instant.now());
+                taskDTO = new TaskDTO(1L, "Task name", "Task description", 2, false, 3L);
+        }
+
+        @Test
+        @DisplayName("Should split the changes into changed and deleted tasks and continue after the last one")
+        void whenPageIsFull_thenReturnTokenOfTheLastChange() {
+                // Arrange
+
+                Instant updatedAt = Instant.now().minus(1, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MICROS);
+                TaskChangesToken since = new TaskChangesToken(updatedAt.minus(1, ChronoUnit.HOURS), 0L);
+                when(repository.findChanges(eq(since), eq(true), any(Instant.class), eq(2))).thenReturn(List.of(
+                                new TaskChangeDTO(taskDTO, updatedAt, false),
+                                new TaskChangeDTO(new TaskDTO(4L, "Other task name", "Other task description", 1,
+                                                true, 1L), updatedAt, true)));
+
+                // Act
+
+                TaskChangesDTO changes = changesService.getChanges(since, 2);
+
+                // Assert
+
+                assertEquals(new TaskChangesDTO(List.of(taskDTO), List.of(4L),
+                                new TaskChangesToken(updatedAt, 4L, since.syncedAt()).toString(), true), changes,
+                                "The changes were not split or the token does not point after the last change");
+
+        }
+
+        @Test
+        @DisplayName("Should skip the tombstones on the first sync and continue from the settled time once caught up")
+        void whenFirstSyncIsCaughtUp_thenReturnTokenOfTheSettledTime() {
+                // Arrange
+
+                when(repository.findChanges(any(TaskChangesToken.class), eq(false), any(Instant.class), eq(2)))
+                                .thenReturn(List.of(new TaskChangeDTO(taskDTO, Instant.now(), false)));
+
+                // Act
+
+                TaskChangesDTO changes = changesService.getChanges(null, 2);
+
+                // Assert
+
+                TaskChangesToken token = TaskChangesToken.parse(changes.token());
+                assertFalse(changes.hasMore(), "A page that is not full reports more changes");
+                assertEquals(0L, token.id(), "The token does not point at the settled time");
+                assertTrue(token.updatedAt().isBefore(Instant.now().minus(Duration.ofSeconds(4))),
+                                "The token does not leave out the changes that may not be committed yet");
+
+        }
+
+        @Test
+        @DisplayName("Should keep paging the first sync through tasks older than the tombstone retention")
+        void whenFirstSyncPagesThroughOldTasks_thenDoNotExpireTheToken() {
+                // Arrange
+
+                Instant updatedAt = Instant.now().minus(Duration.ofDays(60)).truncatedTo(ChronoUnit.MICROS);
+                when(repository.findChanges(any(TaskChangesToken.class), anyBoolean(), any(Instant.class), eq(2)))
+                                .thenReturn(List.of(new TaskChangeDTO(taskDTO, updatedAt, false),
+                                                new TaskChangeDTO(new TaskDTO(4L, "Other task name",
+                                                                "Other task description", 1, true, 1L), updatedAt,
+                                                                false)),
+                                                List.of(new TaskChangeDTO(new TaskDTO(5L, "Last task name",
+                                                                "Last task description", 3, false, 1L),
+                                                                updatedAt.plus(1, ChronoUnit.DAYS), false)));
+
+                // Act
+
+                TaskChangesDTO firstPage = changesService.getChanges(null, 2);
+                TaskChangesToken since = TaskChangesToken.parse(firstPage.token());
+                TaskChangesDTO secondPage = changesService.getChanges(since, 2);
+
+                // Assert
+
+                assertTrue(firstPage.hasMore(), "A full page does not report more changes");
+                assertEquals(updatedAt, since.updatedAt(), "The token does not point after the last change");
+                assertEquals(List.of(5L), secondPage.changed().stream().map(TaskDTO::id).toList(),
+                                "The second page was not read");
+                assertFalse(secondPage.hasMore(), "A page that is not full reports more changes");
+
+                // Verify
+
+                verify(repository, times(1)).findChanges(eq(new TaskChangesToken(updatedAt, 4L, since.syncedAt())),
+                                eq(true), any(Instant.class), eq(2));
+
+        }
+
+        @Test
+        @DisplayName("Should refuse a token older than the tombstone retention")
+        void whenTokenIsOlderThanRetention_thenThrowGoneException() {
+                // Arrange
+
+                TaskChangesToken since = new TaskChangesToken(Instant.now().minus(Duration.ofDays(31)), 1L);
+
+                // Act & Assert
+
+                assertThrows(GoneException.class, () -> changesService.getChanges(since, 2),
+                                "An expired token was accepted");
+
+                // Verify
+
+                verify(repository, never()).findChanges(any(), anyBoolean(), any(), anyInt());
+
+        }
+
+        @Test
+        @DisplayName("Should purge the tombstones in batches until a batch is not full")
+        void whenPurgeTombstones_thenDeleteInBatches() {
+                // Arrange
+
+                when(repository.purgeTombstones(any(Instant.class), eq(2))).thenReturn(2, 1);
+
+                // Act
+
+                int purged = changesService.purgeTombstones();
+
+                // Assert
+
+                assertEquals(3, purged, "Not every old tombstone was purged");
+
+                // Verify
+
+                verify(repository, times(2)).purgeTombstones(any(Instant.class), eq(2));
+
+        }
+
+}
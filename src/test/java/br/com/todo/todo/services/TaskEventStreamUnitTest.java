@@ -0,0 +1,129 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+
+public class TaskEventStreamUnitTest {
+
+        private TaskEventStream eventStream;
+
+        @BeforeEach
+        public void setup() {
+                eventStream = new TaskEventStream(3, 2, Duration.ofMinutes(1), Duration.ofSeconds(15));
+        }
+
+        @Test
+        @DisplayName("Should deliver the changes committed after the subscription")
+        void whenTaskChanges_thenSubscriberReceivesTheEvent() throws InterruptedException {
+                // Arrange
+
+                TaskEventStream.Subscriber subscriber = eventStream.register(null, new SseEmitter());
+                TaskChangedEvent event = TaskChangedEvent.updated(task(1L));
+
+                // Act
+
+                eventStream.onTaskChanged(event);
+
+                // Assert
+
+                assertEquals(event, subscriber.next(0).event(), "The subscriber did not receive the change");
+                assertNull(subscriber.next(0), "The subscriber received more events than were published");
+
+        }
+
+        @Test
+        @DisplayName("Should replay only the events after Last-Event-ID when they are still buffered")
+        void whenResumingFromBufferedEvent_thenReplayMissedEvents() throws InterruptedException {
+                // Arrange
+
+                TaskEventStream.Subscriber first = eventStream.register(null, new SseEmitter());
+                eventStream.onTaskChanged(TaskChangedEvent.created(task(1L)));
+                eventStream.onTaskChanged(TaskChangedEvent.deleted(1L));
+                String lastEventId = first.next(0).id();
+
+                // Act
+
+                TaskEventStream.Subscriber resumed = eventStream.register(lastEventId, new SseEmitter());
+
+                // Assert
+
+                assertEquals(TaskChangedEvent.deleted(1L), resumed.next(0).event(),
+                                "The missed event was not replayed");
+                assertNull(resumed.next(0), "An event already seen by the client was replayed");
+
+        }
+
+        @Test
+        @DisplayName("Should ask for a resync when Last-Event-ID is no longer buffered")
+        void whenResumingFromEvictedEvent_thenResync() throws InterruptedException {
+                // Arrange
+
+                TaskEventStream.Subscriber first = eventStream.register(null, new SseEmitter());
+                eventStream.onTaskChanged(TaskChangedEvent.created(task(1L)));
+                String lastEventId = first.next(0).id();
+                for (long id = 2; id <= 5; id++) {
+                        eventStream.onTaskChanged(TaskChangedEvent.created(task(id)));
+                }
+
+                // Act
+
+                TaskEventStream.Subscriber resumed = eventStream.register(lastEventId, new SseEmitter());
+
+                // Assert
+
+                assertSame(TaskEventStream.RESYNC, resumed.next(0), "The evicted events did not trigger a resync");
+
+        }
+
+        @Test
+        @DisplayName("Should ask for a resync when Last-Event-ID comes from another instance or run")
+        void whenResumingFromUnknownEventId_thenResync() throws InterruptedException {
+                // Act
+
+                TaskEventStream.Subscriber resumed = eventStream.register("unknown.1", new SseEmitter());
+
+                // Assert
+
+                assertSame(TaskEventStream.RESYNC, resumed.next(0), "An unknown event id did not trigger a resync");
+
+        }
+
+        @Test
+        @DisplayName("Should drop the queue of a slow subscriber and ask it to resync instead of blocking")
+        void whenSubscriberQueueOverflows_thenDropEventsAndResync() throws InterruptedException {
+                // Arrange
+
+                TaskEventStream.Subscriber subscriber = eventStream.register(null, new SseEmitter());
+
+                // Act
+
+                for (long id = 1; id <= 3; id++) {
+                        eventStream.onTaskChanged(TaskChangedEvent.created(task(id)));
+                }
+                eventStream.onTaskChanged(TaskChangedEvent.deleted(1L));
+
+                // Assert
+
+                assertSame(TaskEventStream.RESYNC, subscriber.next(0), "The overflow did not trigger a resync");
+                assertEquals(TaskChangedEvent.deleted(1L), subscriber.next(0).event(),
+                                "The events after the overflow were not delivered");
+                assertNull(subscriber.next(0), "The dropped events were delivered");
+
+        }
+
+        private static TaskDTO task(Long id) {
+                return new TaskDTO(id, "Task name", "Task description", 1, false);
+        }
+
+}
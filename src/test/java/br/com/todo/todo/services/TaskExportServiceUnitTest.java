@@ -0,0 +1,154 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskExportServiceUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        private TaskExportService taskExportService;
+
+        private TaskDTO task;
+        private TaskDTO task2;
+
+        @BeforeEach
+        public void setup() {
+                taskExportService = new TaskExportService(repository, new ObjectMapper());
+                task = new TaskDTO(1L, "Task name", "Task description", 1, false);
+                task2 = new TaskDTO(2L, "Other, \"quoted\" name", "Other task description", 2, true);
+        }
+
+        @Test
+        @DisplayName("Should write one JSON object per line")
+        void whenExportNdjson_thenWriteOneTaskPerLine() throws Exception {
+                // Arrange
+
+                when(repository.streamAllOrdered()).thenReturn(Stream.of(task, task2));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                // Act
+
+                taskExportService.exportTasks(TaskExportService.Format.NDJSON, outputStream);
+
+                // Assert
+
+                assertEquals("{\"id\":1,\"name\":\"Task name\",\"description\":\"Task description\",\"priority\":1,\"done\":false}\n"
+                                + "{\"id\":2,\"name\":\"Other, \\\"quoted\\\" name\",\"description\":\"Other task description\",\"priority\":2,\"done\":true}\n",
+                                outputStream.toString(StandardCharsets.UTF_8),
+                                "The NDJSON export is not the expected output");
+
+                // Verify
+
+                verify(repository, times(1)).streamAllOrdered();
+
+        }
+
+        @Test
+        @DisplayName("Should write a CSV header and escape fields with separators or quotes")
+        void whenExportCsv_thenWriteHeaderAndEscapedRows() throws Exception {
+                // Arrange
+
+                when(repository.streamAllOrdered()).thenReturn(Stream.of(task, task2));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                // Act
+
+                taskExportService.exportTasks(TaskExportService.Format.CSV, outputStream);
+
+                // Assert
+
+                assertEquals("id,name,description,priority,done\n"
+                                + "1,Task name,Task description,1,false\n"
+                                + "2,\"Other, \"\"quoted\"\" name\",Other task description,2,true\n",
+                                outputStream.toString(StandardCharsets.UTF_8),
+                                "The CSV export is not the expected output");
+
+                // Verify
+
+                verify(repository, times(1)).streamAllOrdered();
+
+        }
+
+        @Test
+        @DisplayName("Should write one CBOR value per task")
+        void whenExportCbor_thenWriteOneValuePerTask() throws Exception {
+                // Arrange
+
+                when(repository.streamAllOrdered()).thenReturn(Stream.of(task, task2));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                // Act
+
+                taskExportService.exportTasks(TaskExportService.Format.CBOR, outputStream);
+
+                // Assert
+
+                assertEquals(List.of(task, task2), new CBORMapper().readerFor(TaskDTO.class)
+                                .readValues(outputStream.toByteArray()).readAll(),
+                                "The CBOR export does not contain the tasks");
+
+        }
+
+        @Test
+        @DisplayName("Should write one Smile value per task")
+        void whenExportSmile_thenWriteOneValuePerTask() throws Exception {
+                // Arrange
+
+                when(repository.streamAllOrdered()).thenReturn(Stream.of(task, task2));
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+                // Act
+
+                taskExportService.exportTasks(TaskExportService.Format.SMILE, outputStream);
+
+                // Assert
+
+                assertEquals(List.of(task, task2), new SmileMapper().readerFor(TaskDTO.class)
+                                .readValues(outputStream.toByteArray()).readAll(),
+                                "The Smile export does not contain the tasks");
+
+        }
+
+        @Test
+        @DisplayName("Should pick the export format from the most preferred concrete Accept media type")
+        void whenNegotiatingFormat_thenUseAcceptHeader() {
+                // Assert
+
+                assertEquals(TaskExportService.Format.CBOR,
+                                TaskExportService.Format.negotiate("*/*, application/cbor"),
+                                "The CBOR media type was not negotiated");
+                assertEquals(TaskExportService.Format.SMILE,
+                                TaskExportService.Format.negotiate("application/x-jackson-smile;q=0.9"),
+                                "The Smile media type was not negotiated");
+                assertEquals(TaskExportService.Format.NDJSON, TaskExportService.Format.negotiate("*/*"),
+                                "A wildcard Accept did not fall back to NDJSON");
+                assertEquals(TaskExportService.Format.NDJSON, TaskExportService.Format.negotiate(null),
+                                "A missing Accept did not fall back to NDJSON");
+
+        }
+
+}
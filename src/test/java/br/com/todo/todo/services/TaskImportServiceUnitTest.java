@@ -0,0 +1,165 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskImportErrorDTO;
+import br.com.todo.todo.dto.TaskImportResultDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.exceptions.BadRequestException;
+import jakarta.validation.Validation;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskImportServiceUnitTest {
+
+        private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+        private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        private List<List<TaskDTO>> batches;
+
+        private TaskImportService importService;
+
+        @BeforeEach
+        public void setup() {
+                batches = new ArrayList<>();
+                TaskImportWriter writer = tasks -> {
+                        batches.add(new ArrayList<>(tasks));
+                        return tasks.size();
+                };
+                importService = new TaskImportService(writer, new ObjectMapper(),
+                                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2, 1);
+        }
+
+        @Test
+        @DisplayName("Should import the CSV rows in batches, including quoted fields across lines")
+        void whenImportCsv_thenWriteValidRowsInBatches() throws Exception {
+                // Arrange
+
+                String csv = "id,name,description,priority,done\n"
+                                + "1,Task name,Task description,1,false\n"
+                                + "2,\"Other, \"\"quoted\"\" name\",\"Two\nlines\",2,true\n"
+                                + "3,Third task,Third description,3,false\n";
+
+                // Act
+
+                TaskImportResultDTO result = importService.importTasks(CSV, stream(csv));
+
+                // Assert
+
+                assertEquals(new TaskImportResultDTO(3L, 0L, List.of()), result, "Not every row was imported");
+                assertEquals(List.of(
+                                List.of(new TaskDTO(null, "Task name", "Task description", 1, false),
+                                                new TaskDTO(null, "Other, \"quoted\" name", "Two\nlines", 2, true)),
+                                List.of(new TaskDTO(null, "Third task", "Third description", 3, false))), batches,
+                                "The rows were not written in batches of the configured size");
+
+                // Verify
+
+                verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.reset());
+
+        }
+
+        @Test
+        @DisplayName("Should skip invalid rows, count them and report only the first errors")
+        void whenImportCsvWithInvalidRows_thenReportThemAndKeepImporting() throws Exception {
+                // Arrange
+
+                String csv = "name,description,priority,done\n"
+                                + "Task name,Task description,high,false\n"
+                                + "Task name,,1,false\n"
+                                + "Task name,Task description,1,false\n";
+
+                // Act
+
+                TaskImportResultDTO result = importService.importTasks(CSV, stream(csv));
+
+                // Assert
+
+                assertEquals(new TaskImportResultDTO(1L, 2L,
+                                List.of(new TaskImportErrorDTO(2L, "priority: must be an integer"))), result,
+                                "The invalid rows were not reported");
+
+        }
+
+        @Test
+        @DisplayName("Should validate every NDJSON line and report malformed lines")
+        void whenImportNdjson_thenReportInvalidLines() throws Exception {
+                // Arrange
+
+                importService = new TaskImportService(tasks -> tasks.size(), new ObjectMapper(),
+                                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2, 10);
+                String ndjson = "{\"name\":\"Task name\",\"description\":\"Task description\",\"priority\":1,\"done\":false}\n"
+                                + "\n"
+                                + "{\"name\":\"Task name\",\"description\":\"Task description\",\"priority\":0,\"done\":false}\n"
+                                + "{\"name\":\n";
+
+                // Act
+
+                TaskImportResultDTO result = importService.importTasks(NDJSON, stream(ndjson));
+
+                // Assert
+
+                assertEquals(1L, result.imported(), "The valid line was not imported");
+                assertEquals(2L, result.rejected(), "The invalid lines were not rejected");
+                assertEquals(new TaskImportErrorDTO(3L, "priority: Priority cannot be negative or zero"),
+                                result.errors().get(0), "The validation error is not reported with its line");
+                assertEquals(4L, result.errors().get(1).line(), "The malformed line is not reported");
+
+        }
+
+        @Test
+        @DisplayName("Should refuse a CSV file without the required header")
+        void whenCsvHasNoHeader_thenThrowBadRequestException() {
+                // Act & Assert
+
+                assertThrows(BadRequestException.class,
+                                () -> importService.importTasks(CSV, stream("Task name,Task description,1,false\n")),
+                                "A CSV without header was accepted");
+
+                // Verify
+
+                verify(eventPublisher, never()).publishEvent(any(Object.class));
+
+        }
+
+        @Test
+        @DisplayName("Should refuse content types other than CSV and NDJSON")
+        void whenContentTypeIsNotSupported_thenThrowBadRequestException() {
+                // Act & Assert
+
+                assertThrows(BadRequestException.class,
+                                () -> importService.importTasks(MediaType.APPLICATION_XML, stream("<tasks/>")),
+                                "An unsupported content type was accepted");
+
+        }
+
+        private static InputStream stream(String content) {
+                return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+        }
+
+}
@@ -0,0 +1,161 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.infra.config.CacheConfiguration;
+import br.com.todo.todo.repository.TaskArchiveRepository;
+import br.com.todo.todo.repository.TaskRepository;
+
+@SpringBootTest(classes = { TaskServices.class, CacheConfiguration.class }, properties = {
+                "spring.cache.type=caffeine",
+                "spring.cache.cache-names=" + TaskServices.TASKS_CACHE,
+                "spring.cache.caffeine.spec=maximumSize=100,recordStats" })
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+public class TaskServicesCacheTest {
+
+        @Autowired
+        private TaskServices taskServices;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @MockBean
+        private TaskRepository repository;
+
+        @MockBean
+        private TaskArchiveRepository archiveRepository;
+
+        @MockBean
+        private TaskSortedViews sortedViews;
+
+        private TaskDTO taskDTO;
+
+        @BeforeEach
+        public void setup() {
+                cacheManager.getCache(TaskServices.TASKS_CACHE).clear();
+                taskDTO = new TaskDTO(1L, "Task name", "Task description", 2, false);
+        }
+
+        @Test
+        @DisplayName("Should read the task from the repository only once when it is requested twice")
+        void whenGetTaskTwice_thenReadTheRepositoryOnce() {
+                // Arrange
+
+                when(repository.findDTOById(1L)).thenReturn(Optional.of(taskDTO));
+
+                // Act
+
+                TaskDTO firstReturned = taskServices.getTaskById(1L);
+                TaskDTO secondReturned = taskServices.getTaskById(1L);
+
+                // Assert
+
+                assertEquals(taskDTO, firstReturned, "The TaskDTO returned is not equal to the expected TaskDTO");
+                assertEquals(taskDTO, secondReturned,
+                                "The cached TaskDTO returned is not equal to the expected TaskDTO");
+
+                // Verify
+
+                verify(repository, times(1)).findDTOById(1L);
+
+        }
+
+        @Test
+        @DisplayName("Should read the task from the repository again after an update")
+        void whenUpdateTask_thenEvictTheTask() {
+                // Arrange
+
+                TaskDTO updatedTaskDTO = new TaskDTO(1L, "Updated task name", "Task description", 2, true);
+
+                when(repository.findDTOById(1L)).thenReturn(Optional.of(taskDTO), Optional.of(updatedTaskDTO));
+                when(repository.updateById(1L, "Updated task name", "Task description", 2, true)).thenReturn(1);
+
+                // Act
+
+                taskServices.getTaskById(1L);
+                taskServices.putUpdateTask(updatedTaskDTO, 1L);
+                TaskDTO taskDTOReturned = taskServices.getTaskById(1L);
+
+                // Assert
+
+                assertEquals(updatedTaskDTO, taskDTOReturned,
+                                "The TaskDTO returned after the update is not the updated TaskDTO");
+
+                // Verify
+
+                verify(repository, times(2)).findDTOById(1L);
+
+        }
+
+        @Test
+        @DisplayName("Should keep the cached task until the transaction of the update commits")
+        void whenUpdateTaskInTransaction_thenEvictTheTaskAfterCommit() {
+                // Arrange
+
+                TaskDTO updatedTaskDTO = new TaskDTO(1L, "Updated task name", "Task description", 2, true);
+                Cache cache = cacheManager.getCache(TaskServices.TASKS_CACHE);
+
+                when(repository.findDTOById(1L)).thenReturn(Optional.of(taskDTO));
+                when(repository.updateById(1L, "Updated task name", "Task description", 2, true)).thenReturn(1);
+
+                // Act
+
+                taskServices.getTaskById(1L);
+                TransactionSynchronizationManager.initSynchronization();
+                try {
+                        taskServices.putUpdateTask(updatedTaskDTO, 1L);
+
+                        // Assert
+
+                        assertNotNull(cache.get(1L), "The task was evicted before the commit");
+                        TransactionSynchronizationManager.getSynchronizations()
+                                        .forEach(TransactionSynchronization::afterCommit);
+                } finally {
+                        TransactionSynchronizationManager.clearSynchronization();
+                }
+                assertNull(cache.get(1L), "The task was not evicted after the commit");
+
+        }
+
+        @Test
+        @DisplayName("Should read the task from the repository again after it is deleted")
+        void whenDeleteTask_thenEvictTheTask() {
+                // Arrange
+
+                when(repository.findDTOById(1L)).thenReturn(Optional.of(taskDTO));
+                when(repository.deleteTaskById(1L)).thenReturn(1);
+
+                // Act
+
+                taskServices.getTaskById(1L);
+                taskServices.deleteTask(1L);
+                taskServices.getTaskById(1L);
+
+                // Verify
+
+                verify(repository, times(2)).findDTOById(1L);
+
+        }
+
+}
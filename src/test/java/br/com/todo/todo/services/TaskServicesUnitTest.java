@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -23,10 +24,19 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import br.com.todo.todo.dto.TaskCursor;
 import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.dto.TaskFields;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.exceptions.BadRequestException;
+import br.com.todo.todo.exceptions.GoneException;
 import br.com.todo.todo.exceptions.NotFoundException;
+import br.com.todo.todo.exceptions.PreconditionFailedException;
 import br.com.todo.todo.models.Task;
+import br.com.todo.todo.repository.TaskArchiveRepository;
 import br.com.todo.todo.repository.TaskRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +45,15 @@ public class TaskServicesUnitTest {
         @Mock
         private TaskRepository repository;
 
+        @Mock
+        private TaskArchiveRepository archiveRepository;
+
+        @Mock
+        private TaskSortedViews sortedViews;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
         @InjectMocks
         private TaskServices taskServices;
 
@@ -77,7 +96,7 @@ public class TaskServicesUnitTest {
                 void whenHaveTasks_thenReturnATaskDTOList() {
                         // Arrange
 
-                        when(repository.findAll()).thenReturn(tasks);
+                        when(repository.findAllByOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(taskDTO2, taskDTO4, taskDTO, taskDTO3));
 
                         // Act
 
@@ -100,7 +119,7 @@ public class TaskServicesUnitTest {
 
                         // verify
 
-                        verify(repository, times(1)).findAll();
+                        verify(repository, times(1)).findAllByOrderByPriorityAscIdAsc();
 
                 }
 
@@ -109,7 +128,7 @@ public class TaskServicesUnitTest {
                 void whenNoHaveTasks_thenReturnAEmptyList() {
                         // Arrange
 
-                        when(repository.findAll()).thenReturn(List.of());
+                        when(repository.findAllByOrderByPriorityAscIdAsc()).thenReturn(List.of());
 
                         // Act
 
@@ -123,7 +142,232 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findAll();
+                        verify(repository, times(1)).findAllByOrderByPriorityAscIdAsc();
+
+                }
+
+        }
+
+        @Nested
+        public class SortedViewsTests {
+
+                @Test
+                @DisplayName("Should serve the pending tasks from the sorted views when they are loaded")
+                void whenSortedViewsReady_thenReturnThePendingTasksWithoutTheRepository() {
+                        // Arrange
+
+                        when(sortedViews.isReady()).thenReturn(true);
+                        when(sortedViews.getAllPendingTasks()).thenReturn(Arrays.asList(taskDTO4, taskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllPendingTasks();
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO4, taskDTO), taskDTOListReturned,
+                                        "The pending tasks are not the ones of the sorted views");
+
+                        // Verify
+
+                        verify(repository, times(0)).findByDoneFalseOrderByPriorityAscIdAsc();
+
+                }
+
+        }
+
+        @Nested
+        public class GetTasksPageTests {
+
+                @Test
+                @DisplayName("Should return the first page ordered by the repository when no cursor is given")
+                void whenNoCursor_thenReturnTheFirstPage() {
+                        // Arrange
+
+                        when(repository.findAllByOrderByPriorityAscIdAsc(PageRequest.ofSize(2)))
+                                        .thenReturn(Arrays.asList(taskDTO2, taskDTO4));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllTasks(2, null);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO2, taskDTO4), taskDTOListReturned,
+                                        "The first page is not the expected TaskDTO list");
+
+                        // Verify
+
+                        verify(repository, times(1)).findAllByOrderByPriorityAscIdAsc(PageRequest.ofSize(2));
+
+                }
+
+                @Test
+                @DisplayName("Should return the tasks after the cursor when a cursor is given")
+                void whenHaveCursor_thenReturnTheTasksAfterTheCursor() {
+                        // Arrange
+
+                        when(repository.findAllAfter(1, 4L, PageRequest.ofSize(2)))
+                                        .thenReturn(Arrays.asList(taskDTO, taskDTO3));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllTasks(2, new TaskCursor(1, 4L));
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO, taskDTO3), taskDTOListReturned,
+                                        "The page after the cursor is not the expected TaskDTO list");
+
+                        // Verify
+
+                        verify(repository, times(1)).findAllAfter(1, 4L, PageRequest.ofSize(2));
+
+                }
+
+                @Test
+                @DisplayName("Should filter the page by done when listing pending tasks")
+                void whenListPendingPage_thenFilterByDoneFalse() {
+                        // Arrange
+
+                        when(repository.findByDoneAfter(false, 1, 4L, PageRequest.ofSize(10)))
+                                        .thenReturn(Arrays.asList(taskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllPendingTasks(10, new TaskCursor(1, 4L));
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO), taskDTOListReturned,
+                                        "The pending page is not the expected TaskDTO list");
+
+                        // Verify
+
+                        verify(repository, times(1)).findByDoneAfter(false, 1, 4L, PageRequest.ofSize(10));
+
+                }
+
+                @Test
+                @DisplayName("Should filter the page by done when listing done tasks")
+                void whenListDonePage_thenFilterByDoneTrue() {
+                        // Arrange
+
+                        when(repository.findByDoneOrderByPriorityAscIdAsc(true, PageRequest.ofSize(10)))
+                                        .thenReturn(Arrays.asList(taskDTO2, taskDTO3));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllDoneTasks(10, null);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO2, taskDTO3), taskDTOListReturned,
+                                        "The done page is not the expected TaskDTO list");
+
+                        // Verify
+
+                        verify(repository, times(1)).findByDoneOrderByPriorityAscIdAsc(true, PageRequest.ofSize(10));
+
+                }
+
+        }
+
+        @Nested
+        public class GetNextPendingTasksTests {
+
+                @Test
+                @DisplayName("Should read only the first pending tasks from the repository")
+                void whenGetNextPendingTasks_thenReadALimitedPage() {
+                        // Arrange
+
+                        when(repository.findByDoneOrderByPriorityAscIdAsc(false, PageRequest.ofSize(2)))
+                                        .thenReturn(Arrays.asList(taskDTO4, taskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getNextPendingTasks(2);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO4, taskDTO), taskDTOListReturned,
+                                        "The next pending tasks are not the expected TaskDTO list");
+
+                        // Verify
+
+                        verify(repository, times(0)).findByDoneFalseOrderByPriorityAscIdAsc();
+
+                }
+
+                @Test
+                @DisplayName("Should read the first pending tasks from the sorted views when they are loaded")
+                void whenSortedViewsReady_thenReadTheFirstPendingTasksFromTheViews() {
+                        // Arrange
+
+                        when(sortedViews.isReady()).thenReturn(true);
+                        when(sortedViews.getAllPendingTasks(2, null)).thenReturn(Arrays.asList(taskDTO4, taskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getNextPendingTasks(2);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO4, taskDTO), taskDTOListReturned,
+                                        "The next pending tasks are not the ones of the sorted views");
+
+                        // Verify
+
+                        verify(repository, times(0)).findByDoneOrderByPriorityAscIdAsc(any(), any());
+
+                }
+
+        }
+
+        @Nested
+        public class GetTasksWithFieldsTests {
+
+                @Test
+                @DisplayName("Should read only the selected fields from the repository")
+                void whenGetTasksWithFields_thenReadTheSparseProjection() {
+                        // Arrange
+
+                        TaskFields fields = TaskFields.parse("name,done");
+                        TaskCursor after = new TaskCursor(1, 4L);
+                        when(repository.findTasks(fields, false, after, 2)).thenReturn(Arrays.asList(taskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getTasks(fields, false, 2, after);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO), taskDTOListReturned,
+                                        "The tasks are not the ones of the sparse projection");
+
+                }
+
+                @Test
+                @DisplayName("Should read the tasks from the sorted views when they are loaded")
+                void whenSortedViewsReady_thenReadTheTasksFromTheViews() {
+                        // Arrange
+
+                        when(sortedViews.isReady()).thenReturn(true);
+                        when(sortedViews.getAllDoneTasks()).thenReturn(Arrays.asList(taskDTO2, taskDTO3));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getTasks(TaskFields.parse("name"), true,
+                                        null, null);
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(taskDTO2, taskDTO3), taskDTOListReturned,
+                                        "The done tasks are not the ones of the sorted views");
+
+                        // Verify
+
+                        verify(repository, times(0)).findTasks(any(), any(), any(), any());
 
                 }
 
@@ -137,7 +381,7 @@ public class TaskServicesUnitTest {
                 void whenHaveTaskFound_thenReturnTheTaskDTO() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(task));
+                        when(repository.findDTOById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskDTO));
 
                         // Act
 
@@ -154,7 +398,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
+                        verify(repository, times(1)).findDTOById(idCArgumentCaptor.getValue());
 
                 }
 
@@ -163,7 +407,7 @@ public class TaskServicesUnitTest {
                 void whenTaskFound_thenThrowANotFoundException() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.empty());
+                        when(repository.findDTOById(idCArgumentCaptor.capture())).thenReturn(Optional.empty());
 
                         // Act
 
@@ -181,7 +425,25 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
+                        verify(repository, times(1)).findDTOById(idCArgumentCaptor.getValue());
+
+                }
+
+                @Test
+                @DisplayName("Should return the archived TaskDTO when the task was moved to the archive")
+                void whenTaskIsArchived_thenReturnTheArchivedTaskDTO() {
+                        // Arrange
+
+                        when(repository.findDTOById(2L)).thenReturn(Optional.empty());
+                        when(archiveRepository.findDTOById(2L)).thenReturn(Optional.of(taskDTO2));
+
+                        // Act
+
+                        TaskDTO taskDTOReturned = taskServices.getTaskById(2L);
+
+                        // Assert
+
+                        assertEquals(taskDTO2, taskDTOReturned, "The archived TaskDTO was not returned");
 
                 }
 
@@ -190,12 +452,57 @@ public class TaskServicesUnitTest {
         @Nested
         public class getAllDoneTasksTests {
 
+                @Test
+                @DisplayName("Should not read the whole archive when the done tasks are not paged")
+                void whenNotPaged_thenReturnOnlyTheLiveDoneTasks() {
+                        // Arrange
+
+                        when(repository.findByDoneTrueOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(taskDTO2, taskDTO3));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllDoneTasks();
+
+                        // Assert
+
+                        assertEquals(List.of(taskDTO2, taskDTO3), taskDTOListReturned,
+                                        "The done tasks returned are not the live done tasks");
+
+                        // Verify
+
+                        verifyNoInteractions(archiveRepository);
+
+                }
+
+                @Test
+                @DisplayName("Should fill a page of done tasks from both tables and stop at the limit")
+                void whenHaveArchivedTasks_thenMergePagesUpToTheLimit() {
+                        // Arrange
+
+                        TaskDTO archivedTaskDTO = new TaskDTO(5L, "Archived task name", "Archived task description", 1,
+                                        true);
+                        when(repository.findByDoneOrderByPriorityAscIdAsc(true, PageRequest.ofSize(2)))
+                                        .thenReturn(Arrays.asList(taskDTO2, taskDTO3));
+                        when(archiveRepository.findAllByOrderByPriorityAscIdAsc(PageRequest.ofSize(2)))
+                                        .thenReturn(List.of(archivedTaskDTO));
+
+                        // Act
+
+                        List<TaskDTO> taskDTOListReturned = taskServices.getAllDoneTasks(2, null);
+
+                        // Assert
+
+                        assertEquals(List.of(taskDTO2, archivedTaskDTO), taskDTOListReturned,
+                                        "The page does not hold the first done tasks of both tables");
+
+                }
+
                 @Test
                 @DisplayName("Should return a list of TaskDTOs with done true when such tasks exist")
                 void whenHaveTasksWithDoneTrue_thenReturnATaskDTOListWithDoneTrue() {
                         // Arrange
 
-                        when(repository.findByDoneTrue()).thenReturn(Arrays.asList(task2, task3));
+                        when(repository.findByDoneTrueOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(taskDTO2, taskDTO3));
 
                         // Act
 
@@ -214,7 +521,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findByDoneTrue();
+                        verify(repository, times(1)).findByDoneTrueOrderByPriorityAscIdAsc();
 
                 }
 
@@ -223,7 +530,7 @@ public class TaskServicesUnitTest {
                 void whenNoHaveTasksWithDoneTrue_thenReturnAEmptyList() {
                         // Arrange
 
-                        when(repository.findByDoneTrue()).thenReturn(Arrays.asList());
+                        when(repository.findByDoneTrueOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList());
 
                         // Act
 
@@ -235,7 +542,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findByDoneTrue();
+                        verify(repository, times(1)).findByDoneTrueOrderByPriorityAscIdAsc();
 
                 }
 
@@ -249,7 +556,7 @@ public class TaskServicesUnitTest {
                 void whenHaveTasksWithDoneFalse_thenReturnATaskListWithDoneFalse() {
                         // Arrange
 
-                        when(repository.findByDoneFalse()).thenReturn(Arrays.asList(task, task4));
+                        when(repository.findByDoneFalseOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(taskDTO4, taskDTO));
 
                         // Act
 
@@ -268,7 +575,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findByDoneFalse();
+                        verify(repository, times(1)).findByDoneFalseOrderByPriorityAscIdAsc();
 
                 }
 
@@ -277,7 +584,7 @@ public class TaskServicesUnitTest {
                 void whenNoHaveTasksWithDoneFalse_thenReturnAEmptyList() {
                         // Arrange
 
-                        when(repository.findByDoneFalse()).thenReturn(Arrays.asList());
+                        when(repository.findByDoneFalseOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList());
 
                         // Act
 
@@ -289,7 +596,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findByDoneFalse();
+                        verify(repository, times(1)).findByDoneFalseOrderByPriorityAscIdAsc();
 
                 }
 
@@ -333,53 +640,72 @@ public class TaskServicesUnitTest {
                         // Verify
 
                         verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.created(taskDTO));
 
                 }
 
         }
 
         @Nested
-        class putUpdateTask {
+        public class postCreateTasks {
 
-                TaskDTO taskDTOToUpdate;
+                @Test
+                @DisplayName("Should save every task in batches and return the created ids in order")
+                void whenCreateTasks_thenReturnTheCreatedIdsInOrder() {
+                        // Arrange
+
+                        TaskDTO taskDTOWithoutId = new TaskDTO(null, "Task name", "Task description", 2, false);
+                        TaskDTO otherTaskDTOWithoutId = new TaskDTO(null, "Other task name", "Other task description",
+                                        1, true);
+
+                        when(repository.saveAllInBatches(any())).thenReturn(Arrays.asList(task, task2));
+
+                        // Act
+
+                        List<Long> idsReturned = taskServices
+                                        .postCreateTasks(Arrays.asList(taskDTOWithoutId, otherTaskDTOWithoutId));
+
+                        // Assert
+
+                        assertEquals(Arrays.asList(task.getId(), task2.getId()), idsReturned,
+                                        "The ids returned are not the ids of the created tasks in order");
+
+                        // Verify
+
+                        verify(repository, times(1)).saveAllInBatches(any());
 
-                @BeforeEach
-                void setup() {
-                        taskDTOToUpdate = new TaskDTO(1L, "Task name to update", "Task description to update", 1, true);
                 }
 
+        }
+
+        @Nested
+        class putUpdateTask {
+
                 @Test
-                @DisplayName("Should return updated TaskDTO and update when the task exists")
+                @DisplayName("Should return updated TaskDTO and update the task with a single statement when it exists")
                 void whenUpdateTask_thenReturnTheTaskUpdatedAsATaskDTO() {
                         // Arrange
 
-                        Task taskToUpdate = new Task(taskDTOToUpdate, taskDTOToUpdate.id());
-
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(task);
+                        when(repository.updateById(1L, "Task name", "Task description", 2, false)).thenReturn(1);
+                        when(repository.findVersionById(1L)).thenReturn(5L);
 
                         // Act
 
-                        TaskDTO taskDTOUpdatedReturned = taskServices.putUpdateTask(taskDTO, taskToUpdate.getId());
+                        TaskDTO taskDTOUpdatedReturned = taskServices.putUpdateTask(taskDTO, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOUpdatedReturned, "The TaskDTO returned is null");
 
-                        assertTrue(taskDTOUpdatedReturned instanceof TaskDTO,
-                                        "The return is not a instance of TaskDTO");
-
-                        assertEquals(taskToUpdate.getId(), taskDTOUpdatedReturned.id(),
-                                        "The returned TaskDTO has a different id from the id of the expected Task");
-                        assertEquals(taskArgumentCaptor.getValue().getId(), taskDTO.id(),
-                                        "The Task that is delivered to the repository has a different id from the id of the expected Task");
-                        assertEquals(taskDTO, taskDTOUpdatedReturned,
+                        assertEquals(new TaskDTO(1L, "Task name", "Task description", 2, false, 5L),
+                                        taskDTOUpdatedReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, "Task name", "Task description", 2, false);
+                        verify(repository, times(0)).findDTOById(any());
+                        verify(repository, times(0)).save(any());
 
                 }
 
@@ -388,7 +714,7 @@ public class TaskServicesUnitTest {
                 void whenTaskNotFound_thenThrowANotFoundException() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.empty());
+                        when(repository.updateById(1L, "Task name", "Task description", 2, false)).thenReturn(0);
 
                         // Act
 
@@ -406,24 +732,154 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
+                        verify(repository, times(0)).findVersionById(any());
+                        verify(eventPublisher, times(0)).publishEvent(any());
+
+                }
+
+                @Test
+                @DisplayName("Should throw GoneException when the task to be updated was archived")
+                void whenTaskArchived_thenThrowAGoneException() {
+                        // Arrange
+
+                        when(repository.updateById(1L, "Task name", "Task description", 2, false)).thenReturn(0);
+                        when(archiveRepository.existsById(1L)).thenReturn(true);
+
+                        // Act
+
+                        GoneException exceptionReturned = assertThrows(GoneException.class,
+                                        () -> taskServices.putUpdateTask(taskDTO, 1L),
+                                        "The GoneException exception is not thrown when the Task was archived");
+
+                        // Assert
+
+                        assertEquals("Task was archived", exceptionReturned.getMessage(),
+                                        "The message of the GoneException is not equals message expected");
+
+                        // Verify
+
+                        verify(repository, times(0)).findVersionById(any());
+                        verify(eventPublisher, times(0)).publishEvent(any());
+
+                }
+
+        }
+
+        @Nested
+        class conditionalUpdateTask {
+
+                @Test
+                @DisplayName("Should update the task with a single conditional statement when the version matches")
+                void whenVersionMatches_thenReturnTheTaskWithTheNextVersion() {
+                        // Arrange
+
+                        when(repository.updateIfVersionMatches(1L, 3L, "Task name", "Task description", 2, false))
+                                        .thenReturn(1);
+
+                        // Act
+
+                        TaskDTO taskDTOReturned = taskServices.putUpdateTask(taskDTO, 1L, 3L);
+
+                        // Assert
+
+                        assertEquals(new TaskDTO(1L, "Task name", "Task description", 2, false, 4L), taskDTOReturned,
+                                        "The TaskDTO returned is not the updated task with the next version");
+
+                        // Verify
+
+                        verify(repository, times(1)).updateIfVersionMatches(1L, 3L, "Task name", "Task description",
+                                        2, false);
+                        verify(repository, times(0)).findDTOById(any());
                         verify(repository, times(0)).save(any());
 
                 }
 
+                @Test
+                @DisplayName("Should throw PreconditionFailedException when the task exists with another version")
+                void whenVersionDoesNotMatch_thenThrowAPreconditionFailedException() {
+                        // Arrange
+
+                        when(repository.updateIfVersionMatches(1L, 3L, "Task name", "Task description", 2, false))
+                                        .thenReturn(0);
+                        when(repository.existsById(1L)).thenReturn(true);
+
+                        // Act
+
+                        PreconditionFailedException exceptionReturned = assertThrows(
+                                        PreconditionFailedException.class,
+                                        () -> taskServices.putUpdateTask(taskDTO, 1L, 3L),
+                                        "The PreconditionFailedException exception is not thrown when the version does not match");
+
+                        // Assert
+
+                        assertEquals("Task was modified", exceptionReturned.getMessage(),
+                                        "The message of the PreconditionFailedException is not equals message expected");
+
+                        // Verify
+
+                        verify(eventPublisher, times(0)).publishEvent(any());
+
+                }
+
+                @Test
+                @DisplayName("Should throw NotFoundException when the task to be conditionally updated does not exist")
+                void whenTaskNotFound_thenThrowANotFoundException() {
+                        // Arrange
+
+                        TaskDTO partialUpdate = new TaskDTO(null, null, null, null, true);
+
+                        when(repository.updateIfVersionMatches(1L, 3L, null, null, null, true)).thenReturn(0);
+                        when(repository.existsById(1L)).thenReturn(false);
+
+                        // Act
+
+                        NotFoundException exceptionReturned = assertThrows(NotFoundException.class,
+                                        () -> taskServices.patchPartialUpdateTask(partialUpdate, 1L, 3L),
+                                        "The NotFoundException exception is not thrown when the Task is not found");
+
+                        // Assert
+
+                        assertEquals("Task not found", exceptionReturned.getMessage(),
+                                        "The message of the NotFoundException is not equals message expected");
+
+                }
+
+                @Test
+                @DisplayName("Should return the stored task after a conditional partial update")
+                void whenPartialUpdateVersionMatches_thenReturnTheStoredTask() {
+                        // Arrange
+
+                        TaskDTO partialUpdate = new TaskDTO(null, null, null, null, true);
+                        Task storedTask = new Task(new TaskDTO(1L, "Task name", "Task description", 2, true), 1L);
+
+                        when(repository.updateIfVersionMatches(1L, 3L, null, null, null, true)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(storedTask)));
+
+                        // Act
+
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L, 3L);
+
+                        // Assert
+
+                        assertEquals(new TaskDTO(storedTask), taskDTOReturned,
+                                        "The TaskDTO returned is not the stored task");
+
+                        // Verify
+
+                        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(taskDTOReturned));
+
+                }
+
         }
 
         @Nested
         class patchPartialUpdateTask {
 
-                TaskDTO taskDTOToUpdate;
                 TaskDTO taskDTOUpdateExpected;
                 Task taskUpdatedExpected;
 
                 @BeforeEach
                 void setUp() {
-                        taskDTOToUpdate = new TaskDTO(1L, "Task name to update", "Task description to update", 3,
-                                        false);
                         taskDTOUpdateExpected = new TaskDTO(1L, "Expected Task name", "Expected Task description", 2,
                                         true);
                         taskUpdatedExpected = new Task(taskDTOUpdateExpected, taskDTOUpdateExpected.id());
@@ -434,30 +890,25 @@ public class TaskServicesUnitTest {
                 void whenPartialUpdateHaveAllFieldsFill_thenReturnTheTaskUpdatedWithAllFieldsUpdatedAsATaskDTO() {
                         // Arrange
 
-                        Task taskToUpdate = new Task(taskDTOToUpdate, taskDTOToUpdate.id());
-                        TaskDTO partialUpdate = new TaskDTO(null, "Expected Task name", "Expected Task description", 2,
-                                        true);
+                        TaskDTO partialUpdate = new TaskDTO(null, "Expected Task name", "Expected Task description", 2, true);
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(taskUpdatedExpected);
+                        when(repository.updateById(1L, "Expected Task name", "Expected Task description", 2, true)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(taskUpdatedExpected)));
 
                         // Act
 
-                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate,
-                                        taskToUpdate.getId());
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOReturned, "The TaskDTO returned is null");
-                        assertEquals(taskUpdatedExpected, taskArgumentCaptor.getValue(),
-                                        "The Task to delivering to repository is not equal to the expected Task");
                         assertEquals(new TaskDTO(taskUpdatedExpected), taskDTOReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, "Expected Task name", "Expected Task description", 2, true);
+                        verify(repository, times(0)).save(any());
 
                 }
 
@@ -466,31 +917,25 @@ public class TaskServicesUnitTest {
                 void whenPartialUpdateHaveNameFieldFill_thenReturnTheTaskUpdatedWithNameFieldUpdatedAsATaskDTO() {
                         // Arrange
 
-                        Task taskToUpdate = new Task(taskDTOUpdateExpected, 1L);
-                        taskToUpdate.setName("Task name to update");
-
                         TaskDTO partialUpdate = new TaskDTO(null, "Expected Task name", null, null, null);
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(taskUpdatedExpected);
+                        when(repository.updateById(1L, "Expected Task name", null, null, null)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(taskUpdatedExpected)));
 
                         // Act
 
-                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate,
-                                        taskToUpdate.getId());
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOReturned, "The TaskDTO returned is null");
-                        assertEquals(taskUpdatedExpected, taskArgumentCaptor.getValue(),
-                                        "The Task to delivering for the repository is not equal to the expected Task");
                         assertEquals(new TaskDTO(taskUpdatedExpected), taskDTOReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, "Expected Task name", null, null, null);
+                        verify(repository, times(0)).save(any());
 
                 }
 
@@ -499,31 +944,25 @@ public class TaskServicesUnitTest {
                 void whenPartialUpdateHaveDescriptionFieldFill_thenReturnTheTaskUpdatedWithDescriptionFieldUpdatedAsATaskDTO() {
                         // Arrange
 
-                        Task taskToUpdate = new Task(taskDTOUpdateExpected, taskDTOUpdateExpected.id());
-                        taskToUpdate.setDescription("Task description to update");
-
                         TaskDTO partialUpdate = new TaskDTO(null, null, "Expected Task description", null, null);
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(taskUpdatedExpected);
+                        when(repository.updateById(1L, null, "Expected Task description", null, null)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(taskUpdatedExpected)));
 
                         // Act
 
-                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate,
-                                        taskToUpdate.getId());
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOReturned, "The TaskDTO returned is null");
-                        assertEquals(taskUpdatedExpected, taskArgumentCaptor.getValue(),
-                                        "The Task to delivering for the repository is not equal to the expected Task");
                         assertEquals(new TaskDTO(taskUpdatedExpected), taskDTOReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, null, "Expected Task description", null, null);
+                        verify(repository, times(0)).save(any());
 
                 }
 
@@ -532,64 +971,52 @@ public class TaskServicesUnitTest {
                 void whenPartialUpdateHavePriorityFieldFill_thenReturnTheTaskUpdatedWithPriorityFieldUpdatedAsATaskDTO() {
                         // Arrange
 
-                        Task taskToUpdate = new Task(taskDTOUpdateExpected, taskDTOUpdateExpected.id());
-                        taskToUpdate.setPriority(4);
-
                         TaskDTO partialUpdate = new TaskDTO(null, null, null, 2, null);
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(taskUpdatedExpected);
+                        when(repository.updateById(1L, null, null, 2, null)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(taskUpdatedExpected)));
 
                         // Act
 
-                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate,
-                                        taskToUpdate.getId());
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOReturned, "The TaskDTO returned is null");
-                        assertEquals(taskUpdatedExpected, taskArgumentCaptor.getValue(),
-                                        "The Task to delivering for the repository is not equal to the expected Task");
                         assertEquals(new TaskDTO(taskUpdatedExpected), taskDTOReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, null, null, 2, null);
+                        verify(repository, times(0)).save(any());
 
                 }
 
                 @Test
                 @DisplayName("Should return TaskDTO with updated done when done is updated")
                 void whenPartialUpdateHaveDoneFieldFill_thenReturnTheTaskUpdatedWithDoneFieldUpdatedAsATaskDTO() {
-                        // Arrenge
-
-                        Task taskToUpdate = new Task(taskDTOUpdateExpected, taskDTOUpdateExpected.id());
-                        taskToUpdate.setDone(false);
+                        // Arrange
 
                         TaskDTO partialUpdate = new TaskDTO(null, null, null, null, true);
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(taskToUpdate));
-                        when(repository.save(taskArgumentCaptor.capture())).thenReturn(taskUpdatedExpected);
+                        when(repository.updateById(1L, null, null, null, true)).thenReturn(1);
+                        when(repository.findDTOById(1L)).thenReturn(Optional.of(new TaskDTO(taskUpdatedExpected)));
 
                         // Act
 
-                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate,
-                                        taskToUpdate.getId());
+                        TaskDTO taskDTOReturned = taskServices.patchPartialUpdateTask(partialUpdate, 1L);
 
                         // Assert
 
                         assertNotNull(taskDTOReturned, "The TaskDTO returned is null");
-                        assertEquals(taskUpdatedExpected, taskArgumentCaptor.getValue(),
-                                        "The Task to delivering to the repository is not equal to the expected Task");
                         assertEquals(new TaskDTO(taskUpdatedExpected), taskDTOReturned,
                                         "The TaskDTO returned is not equal to the expected TaskDTO");
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).save(taskArgumentCaptor.getValue());
+                        verify(repository, times(1)).updateById(1L, null, null, null, true);
+                        verify(repository, times(0)).save(any());
 
                 }
 
@@ -598,7 +1025,7 @@ public class TaskServicesUnitTest {
                 void whenTaskNotFound_thenThrowANotFoundException() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.empty());
+                        when(repository.updateById(1L, "Task name", "Task description", 2, false)).thenReturn(0);
 
                         // Act
 
@@ -616,7 +1043,7 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
+                        verify(repository, times(0)).findDTOById(any());
                         verify(repository, times(0)).save(any());
 
                 }
@@ -642,8 +1069,109 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(0)).findById(any());
-                        verify(repository, times(0)).save(any());
+                        verify(repository, times(0)).updateById(any(), any(), any(), any(), any());
+                        verify(repository, times(0)).findDTOById(any());
+
+                }
+
+        }
+
+        @Nested
+        class patchBulkUpdateTasks {
+
+                TaskDTO changes;
+
+                @BeforeEach
+                void setUp() {
+                        changes = new TaskDTO(null, null, null, null, true);
+                }
+
+                @Test
+                @DisplayName("Should update the tasks with the given ids in a single statement")
+                void whenHaveIds_thenUpdateByIdsAndReturnTheCount() {
+                        // Arrange
+
+                        List<Long> ids = Arrays.asList(1L, 4L);
+
+                        when(repository.updateAllByIds(ids, null, null, null, true)).thenReturn(2);
+
+                        // Act
+
+                        int updated = taskServices.patchBulkUpdateTasks(changes, ids, null, null);
+
+                        // Assert
+
+                        assertEquals(2, updated, "The number of updated tasks is not the expected number");
+
+                        // Verify
+
+                        verify(repository, times(1)).updateAllByIds(ids, null, null, null, true);
+                        verify(repository, times(0)).findDTOById(any());
+                        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.reset());
+
+                }
+
+                @Test
+                @DisplayName("Should update the tasks matching the filter in a single statement")
+                void whenHaveFilter_thenUpdateByFilterAndReturnTheCount() {
+                        // Arrange
+
+                        when(repository.updateAllByFilter(false, 3, null, null, null, true)).thenReturn(5);
+
+                        // Act
+
+                        int updated = taskServices.patchBulkUpdateTasks(changes, null, false, 3);
+
+                        // Assert
+
+                        assertEquals(5, updated, "The number of updated tasks is not the expected number");
+
+                        // Verify
+
+                        verify(repository, times(1)).updateAllByFilter(false, 3, null, null, null, true);
+
+                }
+
+                @Test
+                @DisplayName("Should throw BadRequestException when neither ids nor filter are provided")
+                void whenNoHaveSelection_thenThrowABadRequestException() {
+                        // Act
+
+                        BadRequestException exceptionReturned = assertThrows(BadRequestException.class,
+                                        () -> taskServices.patchBulkUpdateTasks(changes, null, null, null),
+                                        "The BadRequestException exception is not thrown when no task is selected");
+
+                        // Assert
+
+                        assertEquals("Invalid tasks selection", exceptionReturned.getMessage(),
+                                        "The message of the BadRequestException is not equals message expected");
+
+                        // Verify
+
+                        verify(repository, times(0)).updateAllByIds(any(), any(), any(), any(), any());
+                        verify(repository, times(0)).updateAllByFilter(any(), any(), any(), any(), any(), any());
+
+                }
+
+                @Test
+                @DisplayName("Should throw IllegalArgumentException when no fields are provided to update")
+                void whenNoHaveFieldsFill_thenThrowAIllegalArgumentException() {
+                        // Arrange
+
+                        TaskDTO taskDTOEmpty = new TaskDTO(null, null, null, null, null);
+
+                        // Act
+
+                        IllegalArgumentException exceptionReturned = assertThrows(IllegalArgumentException.class,
+                                        () -> taskServices.patchBulkUpdateTasks(taskDTOEmpty, Arrays.asList(1L),
+                                                        null, null),
+                                        "The IllegalArgumentException exception is not thrown when the all values of the TaskDTO are null");
+
+                        // Assert
+
+                        assertEquals("At least one field must be provided to update the task",
+                                        exceptionReturned.getMessage(),
+                                        "The message of the IllegalArgumentException is not equals message expected");
 
                 }
 
@@ -653,11 +1181,11 @@ public class TaskServicesUnitTest {
         public class deleteTask {
 
                 @Test
-                @DisplayName("Should delete the task when it exists")
+                @DisplayName("Should delete the task with a single statement when it exists")
                 void whenTaskFound_thenReturnNothing() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.of(task));
+                        when(repository.deleteTaskById(idCArgumentCaptor.capture())).thenReturn(1);
 
                         // Act
 
@@ -670,8 +1198,9 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(1)).deleteById(idCArgumentCaptor.getValue());
+                        verify(repository, times(0)).findDTOById(any());
+                        verify(repository, times(1)).deleteTaskById(idCArgumentCaptor.getValue());
+                        verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.deleted(task.getId()));
 
                 }
 
@@ -680,7 +1209,7 @@ public class TaskServicesUnitTest {
                 void whenTaskNotFound_thenThrowANotFoundException() {
                         // Arrange
 
-                        when(repository.findById(idCArgumentCaptor.capture())).thenReturn(Optional.empty());
+                        when(repository.deleteTaskById(idCArgumentCaptor.capture())).thenReturn(0);
 
                         // Act
 
@@ -698,8 +1227,33 @@ public class TaskServicesUnitTest {
 
                         // Verify
 
-                        verify(repository, times(1)).findById(idCArgumentCaptor.getValue());
-                        verify(repository, times(0)).deleteById(idCArgumentCaptor.getValue());
+                        verify(repository, times(1)).deleteTaskById(idCArgumentCaptor.getValue());
+                        verify(eventPublisher, times(0)).publishEvent(any());
+
+                }
+
+                @Test
+                @DisplayName("Should throw GoneException when the task to be deleted was archived")
+                void whenTaskArchived_thenThrowAGoneException() {
+                        // Arrange
+
+                        when(repository.deleteTaskById(1L)).thenReturn(0);
+                        when(archiveRepository.existsById(1L)).thenReturn(true);
+
+                        // Act
+
+                        GoneException exceptionReturned = assertThrows(GoneException.class,
+                                        () -> taskServices.deleteTask(1L),
+                                        "The GoneException exception is not thrown when the Task was archived");
+
+                        // Assert
+
+                        assertEquals("Task was archived", exceptionReturned.getMessage(),
+                                        "The message of the GoneException is not equals message expected");
+
+                        // Verify
+
+                        verify(eventPublisher, times(0)).publishEvent(any());
 
                 }
 
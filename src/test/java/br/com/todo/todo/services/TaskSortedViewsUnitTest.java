@@ -0,0 +1,163 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.todo.todo.dto.TaskCursor;
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSortedViewsUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        private TaskSortedViews sortedViews;
+
+        private TaskDTO taskDTO;
+        private TaskDTO taskDTO2;
+        private TaskDTO taskDTO3;
+        private TaskDTO taskDTO4;
+
+        @BeforeEach
+        public void setup() {
+                taskDTO = new TaskDTO(1L, "Task name", "Task description", 2, false);
+                taskDTO2 = new TaskDTO(2L, "Other task name", "Other task description", 1, true);
+                taskDTO3 = new TaskDTO(3L, "Other task name", "Other task description", 3, true);
+                taskDTO4 = new TaskDTO(4L, "Other task name", "Other task description", 1, false);
+                sortedViews = new TaskSortedViews(repository, true);
+                when(repository.findAllByOrderByPriorityAscIdAsc()).thenReturn(Arrays.asList(
+                                taskDTO2, taskDTO4, taskDTO, taskDTO3));
+                sortedViews.load();
+        }
+
+        @Test
+        @DisplayName("Should split the loaded tasks into done and pending views ordered by priority and id")
+        void whenLoaded_thenServeOrderedViews() {
+                // Assert
+
+                assertTrue(sortedViews.isReady(), "The sorted views are not ready after loading");
+                assertEquals(Arrays.asList(taskDTO2, taskDTO4, taskDTO, taskDTO3), sortedViews.getAllTasks(),
+                                "The all tasks view is not ordered by priority and id");
+                assertEquals(Arrays.asList(taskDTO2, taskDTO3), sortedViews.getAllDoneTasks(),
+                                "The done view is not the expected list");
+                assertEquals(Arrays.asList(taskDTO4, taskDTO), sortedViews.getAllPendingTasks(),
+                                "The pending view is not the expected list");
+
+                // Verify
+
+                verify(repository, times(1)).findAllByOrderByPriorityAscIdAsc();
+
+        }
+
+        @Test
+        @DisplayName("Should move a task from the pending view to the done view when it is completed")
+        void whenTaskCompleted_thenMoveItToTheDoneView() {
+                // Arrange
+
+                TaskDTO completedTaskDTO = new TaskDTO(1L, "Task name", "Task description", 2, true);
+
+                // Act
+
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(completedTaskDTO));
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO2, completedTaskDTO, taskDTO3), sortedViews.getAllDoneTasks(),
+                                "The completed task is not in the done view");
+                assertEquals(Arrays.asList(taskDTO4), sortedViews.getAllPendingTasks(),
+                                "The completed task is still in the pending view");
+
+        }
+
+        @Test
+        @DisplayName("Should ignore an update event that is not newer than the stored version")
+        void whenStaleUpdateArrives_thenKeepTheNewerTask() {
+                // Arrange
+
+                TaskDTO newerTaskDTO = new TaskDTO(1L, "Task name", "Task description", 2, true, 3L);
+                TaskDTO staleTaskDTO = new TaskDTO(1L, "Task name", "Task description", 5, false, 2L);
+                TaskDTO sameVersionTaskDTO = new TaskDTO(1L, "Task name", "Task description", 4, false, 3L);
+
+                // Act
+
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(newerTaskDTO));
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(staleTaskDTO));
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(sameVersionTaskDTO));
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO2, newerTaskDTO, taskDTO3), sortedViews.getAllDoneTasks(),
+                                "The stale update replaced the newer task in the done view");
+                assertEquals(Arrays.asList(taskDTO4), sortedViews.getAllPendingTasks(),
+                                "The stale update put the task back in the pending view");
+
+        }
+
+        @Test
+        @DisplayName("Should not bring back a deleted task on a late update event")
+        void whenUpdateArrivesAfterDelete_thenKeepTheTaskRemoved() {
+                // Arrange
+
+                TaskDTO updatedTaskDTO = new TaskDTO(4L, "Other task name", "Other task description", 1, false, 2L);
+                TaskDTO lateTaskDTO = new TaskDTO(4L, "Other task name", "Other task description", 1, false, 1L);
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(updatedTaskDTO));
+
+                // Act
+
+                sortedViews.onTaskChanged(TaskChangedEvent.deleted(4L));
+                sortedViews.onTaskChanged(TaskChangedEvent.updated(lateTaskDTO));
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO2, taskDTO, taskDTO3), sortedViews.getAllTasks(),
+                                "The late update brought the deleted task back");
+
+        }
+
+        @Test
+        @DisplayName("Should remove a deleted task from every view")
+        void whenTaskDeleted_thenRemoveItFromTheViews() {
+                // Act
+
+                sortedViews.onTaskChanged(TaskChangedEvent.deleted(4L));
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO2, taskDTO, taskDTO3), sortedViews.getAllTasks(),
+                                "The deleted task is still in the all tasks view");
+                assertFalse(sortedViews.getAllPendingTasks().contains(taskDTO4),
+                                "The deleted task is still in the pending view");
+
+        }
+
+        @Test
+        @DisplayName("Should return the page after the cursor")
+        void whenHaveCursor_thenReturnThePageAfterTheCursor() {
+                // Act
+
+                List<TaskDTO> page = sortedViews.getAllTasks(2, new TaskCursor(1, 4L));
+
+                // Assert
+
+                assertEquals(Arrays.asList(taskDTO, taskDTO3), page, "The page after the cursor is not the expected");
+
+        }
+
+}
@@ -0,0 +1,105 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import br.com.todo.todo.dto.TaskCountDTO;
+import br.com.todo.todo.dto.TaskPriorityCountDTO;
+import br.com.todo.todo.dto.TaskSummaryDTO;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskSummaryServiceUnitTest {
+
+        @Mock
+        private TaskRepository repository;
+
+        @Mock
+        private TaskChangeTracker changeTracker;
+
+        private List<TaskCountDTO> counts;
+
+        @BeforeEach
+        public void setup() {
+                counts = Arrays.asList(new TaskCountDTO(false, 2, 3L), new TaskCountDTO(true, 1, 2L),
+                                new TaskCountDTO(false, 1, 4L));
+        }
+
+        @Test
+        @DisplayName("Should add up the grouped counts into totals and per-priority counts")
+        void whenGetSummary_thenReturnTotalsAndCountsByPriority() {
+                // Arrange
+
+                TaskSummaryService summaryService = new TaskSummaryService(repository, changeTracker, Duration.ZERO);
+                when(changeTracker.getVersion()).thenReturn("abc.1");
+                when(repository.countByDoneAndPriority()).thenReturn(counts);
+
+                // Act
+
+                TaskSummaryDTO summaryReturned = summaryService.getSummary();
+
+                // Assert
+
+                assertEquals(new TaskSummaryDTO(9L, 2L, 7L, Arrays.asList(
+                                new TaskPriorityCountDTO(1, 6L, 2L, 4L),
+                                new TaskPriorityCountDTO(2, 3L, 0L, 3L))), summaryReturned,
+                                "The summary returned is not the expected summary");
+
+        }
+
+        @Test
+        @DisplayName("Should run the aggregate once while the tasks do not change within the TTL")
+        void whenTasksUnchanged_thenServeTheCachedSummary() {
+                // Arrange
+
+                TaskSummaryService summaryService = new TaskSummaryService(repository, changeTracker,
+                                Duration.ofMinutes(1));
+                when(changeTracker.getVersion()).thenReturn("abc.1");
+                when(repository.countByDoneAndPriority()).thenReturn(counts);
+
+                // Act
+
+                summaryService.getSummary();
+                summaryService.getSummary();
+
+                // Verify
+
+                verify(repository, times(1)).countByDoneAndPriority();
+
+        }
+
+        @Test
+        @DisplayName("Should run the aggregate again after the tasks change")
+        void whenTasksChanged_thenRunTheAggregateAgain() {
+                // Arrange
+
+                TaskSummaryService summaryService = new TaskSummaryService(repository, changeTracker,
+                                Duration.ofMinutes(1));
+                when(changeTracker.getVersion()).thenReturn("abc.1", "abc.3");
+                when(repository.countByDoneAndPriority()).thenReturn(counts);
+
+                // Act
+
+                summaryService.getSummary();
+                summaryService.getSummary();
+
+                // Verify
+
+                verify(repository, times(2)).countByDoneAndPriority();
+
+        }
+
+}
@@ -0,0 +1,249 @@
+package br.com.todo.todo.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import br.com.todo.todo.dto.TaskDTO;
+import br.com.todo.todo.events.TaskChangedEvent;
+import br.com.todo.todo.repository.TaskRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskWriteCoalescerUnitTest {
+
+        @Mock
+        private JdbcTemplate jdbcTemplate;
+
+        @Mock
+        private TaskRepository repository;
+
+        @Mock
+        private ApplicationEventPublisher eventPublisher;
+
+        @Mock
+        private CacheManager cacheManager;
+
+        @Mock
+        private Cache cache;
+
+        @Mock
+        private PlatformTransactionManager transactionManager;
+
+        @Captor
+        private ArgumentCaptor<BatchPreparedStatementSetter> setterCaptor;
+
+        private TaskDTO taskDTO;
+
+        @BeforeEach
+        public void setup() {
+                taskDTO = new TaskDTO(1L, "Task name", "Task description", 2, false, 3L);
+        }
+
+        @Test
+        @DisplayName("Should merge consecutive changes of a task and return them with the version of their write")
+        void whenAcceptingConsecutiveChanges_thenReturnMergedTask() {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+
+                // Act
+
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, 5, null));
+                TaskDTO taskReturned = writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, true));
+
+                // Assert
+
+                assertEquals(new TaskDTO(1L, "Task name", "Task description", 5, true, 4L), taskReturned,
+                                "The returned task does not carry both changes");
+                assertEquals(taskReturned, writeCoalescer.overlay(taskDTO),
+                                "A read of the task does not see the pending changes");
+
+                // Verify
+
+                verify(jdbcTemplate, never()).batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class));
+
+        }
+
+        @Test
+        @DisplayName("Should write the merged changes of every task in one batch and publish them")
+        void whenFlush_thenUpdateTasksInOneBatch() throws SQLException {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+                TaskDTO updatedTask = new TaskDTO(1L, "Task name", "Task description", 5, true, 4L);
+                when(repository.findDTOByIdIn(List.of(1L))).thenReturn(List.of(updatedTask));
+                when(cacheManager.getCache(TaskServices.TASKS_CACHE)).thenReturn(cache);
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, 5, null));
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, true));
+
+                // Act
+
+                writeCoalescer.flush();
+
+                // Assert
+
+                assertEquals(taskDTO, writeCoalescer.overlay(taskDTO), "The flushed changes are still pending");
+
+                // Verify
+
+                verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), setterCaptor.capture());
+                assertEquals(1, setterCaptor.getValue().getBatchSize(), "The batch does not have one update per task");
+                verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(updatedTask));
+                verify(cache, times(1)).evict(1L);
+
+        }
+
+        @Test
+        @DisplayName("Should flush as soon as the number of pending tasks reaches the threshold")
+        void whenPendingTasksReachThreshold_thenFlush() {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(2);
+                TaskDTO otherTaskDTO = new TaskDTO(2L, "Other task name", "Other task description", 1, true, 0L);
+
+                // Act
+
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, true));
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, 1, null));
+                writeCoalescer.accept(otherTaskDTO, new TaskDTO(null, null, null, null, false));
+
+                // Verify
+
+                verify(jdbcTemplate, times(1)).batchUpdate(any(String.class), setterCaptor.capture());
+                assertEquals(2, setterCaptor.getValue().getBatchSize(), "The batch does not have one update per task");
+                verify(repository, times(1)).findDTOByIdIn(eq(List.of(1L, 2L)));
+
+        }
+
+        @Test
+        @DisplayName("Should bind unchanged fields as typed nulls so the update keeps them")
+        void whenFlush_thenBindOnlyChangedFields() throws SQLException {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+                PreparedStatement statement = mock(PreparedStatement.class);
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, true));
+                when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
+                                .thenAnswer(invocation -> {
+                                        invocation.getArgument(1, BatchPreparedStatementSetter.class)
+                                                        .setValues(statement, 0);
+                                        return new int[] { 1 };
+                                });
+
+                // Act
+
+                writeCoalescer.flush();
+
+                // Verify
+
+                verify(statement).setObject(1, null, Types.VARCHAR);
+                verify(statement).setObject(2, null, Types.VARCHAR);
+                verify(statement).setObject(3, null, Types.INTEGER);
+                verify(statement).setObject(4, true, Types.BOOLEAN);
+                verify(statement).setLong(5, 1L);
+
+        }
+
+        @Test
+        @DisplayName("Should drop the changes the data base refuses and still write the other ones")
+        void whenFlushFailsForGood_thenDropTheRefusedChanges() {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+                TaskDTO otherTaskDTO = new TaskDTO(2L, "Other task name", "Other task description", 1, true, 0L);
+                TaskDTO updatedTask = new TaskDTO(2L, "Other task name", "Other task description", 1, false, 1L);
+                when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
+                                .thenThrow(new DataIntegrityViolationException("Batch refused"))
+                                .thenThrow(new DataIntegrityViolationException("Task 1 refused"))
+                                .thenReturn(new int[] { 1 });
+                when(repository.findDTOByIdIn(List.of(2L))).thenReturn(List.of(updatedTask));
+                when(cacheManager.getCache(TaskServices.TASKS_CACHE)).thenReturn(cache);
+                writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, -1, null));
+                writeCoalescer.accept(otherTaskDTO, new TaskDTO(null, null, null, null, false));
+
+                // Act
+
+                writeCoalescer.flush();
+                writeCoalescer.flush();
+
+                // Assert
+
+                assertEquals(taskDTO, writeCoalescer.overlay(taskDTO), "The refused changes are still pending");
+                assertEquals(otherTaskDTO, writeCoalescer.overlay(otherTaskDTO),
+                                "The written changes are still pending");
+
+                // Verify
+
+                verify(jdbcTemplate, times(3)).batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class));
+                verify(eventPublisher, times(1)).publishEvent(TaskChangedEvent.updated(updatedTask));
+
+        }
+
+        @Test
+        @DisplayName("Should keep the changes pending when the data base can not be reached")
+        void whenFlushFailsForNow_thenKeepTheChangesPending() {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+                when(jdbcTemplate.batchUpdate(any(String.class), any(BatchPreparedStatementSetter.class)))
+                                .thenThrow(new CannotGetJdbcConnectionException("Data base down"));
+                when(cacheManager.getCache(TaskServices.TASKS_CACHE)).thenReturn(cache);
+                TaskDTO taskReturned = writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, true));
+
+                // Act & Assert
+
+                assertThrows(CannotGetJdbcConnectionException.class, writeCoalescer::flush,
+                                "The failure was not reported");
+                assertEquals(taskReturned, writeCoalescer.overlay(taskDTO), "The changes are no longer pending");
+
+        }
+
+        @Test
+        @DisplayName("Should refuse a change without any field")
+        void whenAcceptingEmptyChange_thenThrowIllegalArgumentException() {
+                // Arrange
+
+                TaskWriteCoalescer writeCoalescer = writeCoalescer(500);
+
+                // Act & Assert
+
+                assertThrows(IllegalArgumentException.class,
+                                () -> writeCoalescer.accept(taskDTO, new TaskDTO(null, null, null, null, null)),
+                                "An empty change was accepted");
+
+        }
+
+        private TaskWriteCoalescer writeCoalescer(int maxPending) {
+                return new TaskWriteCoalescer(jdbcTemplate, repository, eventPublisher, cacheManager,
+                                transactionManager, true, maxPending);
+        }
+
+}